@@ -0,0 +1,59 @@
+package com.bank.loanpricing.benchmark;
+
+import com.bank.loanpricing.controller.LoanController;
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.exception.GlobalExceptionHandler;
+import com.bank.loanpricing.model.Loan;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.validation.BeanPropertyBindingResult;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+
+import java.util.concurrent.TimeUnit;
+
+// Error response building. Handler logging is switched off: a console appender
+// would dominate the measurement and flood the run output.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExceptionHandlerBenchmark {
+
+    private GlobalExceptionHandler handler;
+    private MockHttpServletRequest request;
+    private BusinessException businessException;
+    private MethodArgumentNotValidException validationException;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        ((Logger) LoggerFactory.getLogger(GlobalExceptionHandler.class)).setLevel(Level.OFF);
+
+        handler = new GlobalExceptionHandler();
+        request = new MockHttpServletRequest("PATCH", "/api/loans/1/submit");
+        businessException = new BusinessException("Financial rating is required");
+
+        BeanPropertyBindingResult bindingResult = new BeanPropertyBindingResult(new Loan(), "loan");
+        bindingResult.addError(new FieldError("loan", "clientName", "must not be blank"));
+        bindingResult.addError(new FieldError("loan", "tenureMonths", "must be greater than or equal to 6"));
+        MethodParameter parameter = new MethodParameter(
+                LoanController.class.getMethod("createLoan", Loan.class), 0);
+        validationException = new MethodArgumentNotValidException(parameter, bindingResult);
+    }
+
+    @Benchmark
+    public Object businessError() {
+        return handler.handleBusinessException(businessException, request);
+    }
+
+    @Benchmark
+    public Object validationError() {
+        return handler.handleValidationException(validationException, request);
+    }
+}
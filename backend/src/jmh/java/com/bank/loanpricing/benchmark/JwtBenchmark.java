@@ -0,0 +1,62 @@
+package com.bank.loanpricing.benchmark;
+
+import com.bank.loanpricing.model.Role;
+import com.bank.loanpricing.model.User;
+import com.bank.loanpricing.security.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+// Token issue on login, and claim extraction as JwtFilter does per request
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil cachingJwtUtil;
+    private JwtUtil uncachedJwtUtil;
+    private User user;
+    private String token;
+
+    private static JwtUtil jwtUtil(long claimsCacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "loanPricingSecretKeyloanPricingSecretKey");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", claimsCacheMaxSize);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    @Setup
+    public void setUp() {
+        cachingJwtUtil = jwtUtil(10_000);
+        uncachedJwtUtil = jwtUtil(0);
+
+        user = User.builder()
+                .id("u-1")
+                .email("user@test.com")
+                .role(Role.USER)
+                .build();
+        token = cachingJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachingJwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String extractEmailCached() {
+        return cachingJwtUtil.extractEmail(token);
+    }
+
+    // Full signature verification and parse on every call
+    @Benchmark
+    public String extractEmailUncached() {
+        return uncachedJwtUtil.extractEmail(token);
+    }
+}
@@ -0,0 +1,115 @@
+package com.bank.loanpricing.benchmark;
+
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.model.Financials;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanAction;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson cost of the loan payloads. The audit trail no longer rides on
+ * {@link Loan}; it is served as pages of {@link LoanAction}, so the "large
+ * actions list" case is a 1000-entry history page. The page cases compare a
+ * list page of full documents with the {@link LoanResponse} rows the list
+ * endpoints now return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoanSerializationBenchmark {
+
+    @Param({"1000"})
+    public int actions;
+
+    @Param({"50"})
+    public int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Loan loan;
+    private List<LoanAction> history;
+    private List<Loan> fullPage;
+    private List<LoanResponse> summaryPage;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        Financials financials = new Financials();
+        financials.setRevenue(50_000_000L);
+        financials.setEbitda(8_000_000L);
+        financials.setRating("A");
+
+        Instant now = Instant.now();
+        loan = new Loan();
+        loan.setId("65f0c0ffee0000000000abcd");
+        loan.setVersion(7L);
+        loan.setClientName("Acme Manufacturing Pvt Ltd");
+        loan.setLoanType(LoanType.TERM_LOAN);
+        loan.setRequestedAmount(2_500_000);
+        loan.setProposedInterestRate(9.5);
+        loan.setTenureMonths(60);
+        loan.setFinancials(financials);
+        loan.setStatus(LoanStatus.APPROVED);
+        loan.setSanctionedAmount(2_250_000.0);
+        loan.setApprovedInterestRate(9.25);
+        loan.setCreatedBy("user-1");
+        loan.setUpdatedBy("admin-1");
+        loan.setApprovedBy("admin-1");
+        loan.setCreatedAt(now);
+        loan.setUpdatedAt(now);
+        loan.setApprovedAt(now);
+
+        history = new ArrayList<>(actions);
+        for (int i = 0; i < actions; i++) {
+            LoanAction action = new LoanAction();
+            action.setId(loan.getId() + ":" + i);
+            action.setLoanId(loan.getId());
+            action.setBy("admin-1");
+            action.setAction("UPDATED");
+            action.setComments("Loan fields updated");
+            action.setTimestamp(now.plusSeconds(i));
+            history.add(action);
+        }
+
+        fullPage = new ArrayList<>(pageSize);
+        summaryPage = new ArrayList<>(pageSize);
+        for (int i = 0; i < pageSize; i++) {
+            fullPage.add(loan);
+            summaryPage.add(new LoanResponse(loan.getId(), loan.getClientName(), loan.getLoanType(),
+                    loan.getRequestedAmount(), loan.getTenureMonths(), loan.getStatus(),
+                    loan.getCreatedBy(), loan.getCreatedAt(), loan.isDeleted()));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeLoan() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(loan);
+    }
+
+    @Benchmark
+    public byte[] serializeFullLoanPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] serializeSummaryPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] serializeLoanHistory() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(history);
+    }
+}
@@ -0,0 +1,131 @@
+package com.bank.loanpricing.benchmark;
+
+import com.bank.loanpricing.model.Financials;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.pricing.LoanPricer;
+import com.bank.loanpricing.pricing.OverdraftPricingStrategy;
+import com.bank.loanpricing.pricing.SmeLoanPricingStrategy;
+import com.bank.loanpricing.pricing.SpreadGridRegistry;
+import com.bank.loanpricing.pricing.TermLoanPricingStrategy;
+import com.bank.loanpricing.pricing.WorkingCapitalPricingStrategy;
+import com.bank.loanpricing.service.AmortizationService;
+import com.bank.loanpricing.service.LoanService;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Single-loan pricing and the bulk, grid and schedule engines built on it
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PricingBenchmark {
+
+    private static final int CHUNK = 8_192;
+
+    private LoanService loanService;
+    private LoanPricer loanPricer;
+    private AmortizationService amortizationService;
+
+    private Loan loan;
+
+    private LoanType[] types;
+    private String[] ratings;
+    private double[] principals;
+    private double[] rates;
+    private int[] tenures;
+    private double[] prices;
+
+    private double[] gridAmounts;
+    private int[] gridTenures;
+    private double[] gridRates;
+
+    @Setup
+    public void setUp() {
+        loanPricer = new LoanPricer(
+                new SpreadGridRegistry(
+                        new ClassPathResource("pricing/spread-grid.csv"),
+                        new ClassPathResource("pricing/spread-grid.csv")),
+                List.of(new TermLoanPricingStrategy(), new WorkingCapitalPricingStrategy(),
+                        new OverdraftPricingStrategy(), new SmeLoanPricingStrategy()));
+        // Pricing touches no repositories, caches, stats or tracing
+        loanService = new LoanService(null, null, loanPricer, null, null, ObservationRegistry.NOOP, null);
+        amortizationService = new AmortizationService();
+
+        Financials financials = new Financials();
+        financials.setRating("B");
+
+        loan = new Loan();
+        loan.setLoanType(LoanType.TERM_LOAN);
+        loan.setRequestedAmount(2_500_000);
+        loan.setProposedInterestRate(9.5);
+        loan.setTenureMonths(240);
+        loan.setFinancials(financials);
+
+        SplittableRandom random = new SplittableRandom(42);
+        LoanType[] allTypes = LoanType.values();
+        String[] allRatings = {"A", "B", "C", "D", null};
+
+        types = new LoanType[CHUNK];
+        ratings = new String[CHUNK];
+        principals = new double[CHUNK];
+        rates = new double[CHUNK];
+        tenures = new int[CHUNK];
+        prices = new double[CHUNK];
+        for (int i = 0; i < CHUNK; i++) {
+            types[i] = allTypes[random.nextInt(allTypes.length)];
+            ratings[i] = allRatings[random.nextInt(allRatings.length)];
+            principals[i] = random.nextDouble(10_000, 5_000_000);
+            rates[i] = random.nextDouble(6, 14);
+            tenures[i] = random.nextInt(6, 361);
+        }
+
+        gridAmounts = new double[20];
+        gridTenures = new int[20];
+        gridRates = new double[20];
+        for (int i = 0; i < 20; i++) {
+            gridAmounts[i] = 1_000_000 + i * 100_000;
+            gridTenures[i] = 12 + i * 12;
+            gridRates[i] = 7 + i * 0.25;
+        }
+    }
+
+    @Benchmark
+    public double calculatePrice() {
+        return loanService.calculatePrice(loan);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK)
+    public double[] priceAllChunk() {
+        loanPricer.priceAll(types, ratings, principals, rates, tenures, prices, CHUNK);
+        return prices;
+    }
+
+    @Benchmark
+    public double[] sensitivityGrid8000Cells() {
+        return loanPricer.priceGrid(LoanType.TERM_LOAN, "B", gridAmounts, gridTenures, gridRates);
+    }
+
+    @Benchmark
+    public double amortizationSchedule240Rows(Blackhole blackhole) throws IOException {
+        return amortizationService.forEachRow(loan, (month, payment, principal, interest, balance) -> {
+            blackhole.consume(payment);
+            blackhole.consume(balance);
+        });
+    }
+
+    @Benchmark
+    public Object amortizationSummary() {
+        return amortizationService.summarize(loan);
+    }
+}
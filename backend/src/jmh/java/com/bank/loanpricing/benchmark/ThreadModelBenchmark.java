@@ -0,0 +1,97 @@
+package com.bank.loanpricing.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Burst throughput of blocking requests: a Tomcat-sized platform pool against one
+// virtual thread per request. Each request waits on a simulated Mongo round trip and
+// then does a little CPU work; "virtual-pinned" waits inside synchronized, the way a
+// pinned call would. Virtual modes need JDK 21, so a plain -Pbenchmark run only
+// measures "platform"; add the java21 profile for all three:
+//   mvn -Pbenchmark,java21 -DskipTests verify
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class ThreadModelBenchmark {
+
+    private static final int REQUESTS = 2_000;
+    private static final int TOMCAT_MAX_THREADS = 200;
+
+    @Param({"platform", "virtual", "virtual-pinned"})
+    public String threadModel;
+
+    @Param({"5"})
+    public int ioMillis;
+
+    private Executor executor;
+    private boolean pinned;
+
+    @Setup
+    public void setUp() {
+        if (threadModel.equals("platform")) {
+            executor = Executors.newFixedThreadPool(TOMCAT_MAX_THREADS);
+            return;
+        }
+        if (Runtime.version().feature() < 21) {
+            // Only reached when the modes are chosen by hand (-p threadModel=...)
+            throw new IllegalStateException("Virtual threads need JDK 21; run with -Pbenchmark,java21");
+        }
+        SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor("bench-vt-");
+        virtual.setVirtualThreads(true);
+        executor = virtual;
+        pinned = threadModel.equals("virtual-pinned");
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor instanceof ExecutorService pool) {
+            pool.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(REQUESTS)
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.execute(() -> {
+                try {
+                    handle();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+    }
+
+    private void handle() {
+        if (pinned) {
+            // Parking while holding any monitor pins the carrier, contended or not
+            synchronized (new Object()) {
+                blockOnIo();
+            }
+        } else {
+            blockOnIo();
+        }
+        Blackhole.consumeCPU(1_000);
+    }
+
+    private void blockOnIo() {
+        try {
+            Thread.sleep(ioMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
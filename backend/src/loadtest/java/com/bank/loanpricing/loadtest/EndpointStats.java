@@ -0,0 +1,37 @@
+package com.bank.loanpricing.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency histogram (1µs..1min, 3 significant digits) and error count for one endpoint
+final class EndpointStats {
+
+    private final ConcurrentHistogram latencies =
+            new ConcurrentHistogram(TimeUnit.MICROSECONDS.toNanos(1), TimeUnit.MINUTES.toNanos(1), 3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long nanos, boolean success) {
+        latencies.recordValue(Math.min(nanos, latencies.getHighestTrackableValue()));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    long count() {
+        return latencies.getTotalCount();
+    }
+
+    long errors() {
+        return errors.sum();
+    }
+
+    double percentileMs(double percentile) {
+        return latencies.getValueAtPercentile(percentile) / 1e6;
+    }
+
+    double maxMs() {
+        return latencies.getMaxValue() / 1e6;
+    }
+}
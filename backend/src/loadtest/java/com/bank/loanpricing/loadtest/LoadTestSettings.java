@@ -0,0 +1,56 @@
+package com.bank.loanpricing.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+// loadtest.properties, with -Dloadtest.<key> overrides
+final class LoadTestSettings {
+
+    private static final String PREFIX = "loadtest.";
+
+    private final Properties properties = new Properties();
+
+    private LoadTestSettings() {
+    }
+
+    static LoadTestSettings load() throws IOException {
+        LoadTestSettings settings = new LoadTestSettings();
+        try (InputStream in = LoadTestSettings.class.getResourceAsStream("/loadtest.properties")) {
+            if (in != null) {
+                settings.properties.load(in);
+            }
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(key -> key.startsWith(PREFIX))
+                .forEach(key -> settings.properties.setProperty(
+                        key.substring(PREFIX.length()), System.getProperty(key)));
+        return settings;
+    }
+
+    int intValue(String key) {
+        return Integer.parseInt(required(key));
+    }
+
+    double doubleValue(String key) {
+        return Double.parseDouble(required(key));
+    }
+
+    // budget.<endpoint>.<metric>, falling back to budget.<metric>
+    double budget(String endpoint, String metric) {
+        String specific = properties.getProperty("budget." + endpoint + "." + metric);
+        return Double.parseDouble(specific != null ? specific : required("budget." + metric));
+    }
+
+    Properties asProperties() {
+        return properties;
+    }
+
+    private String required(String key) {
+        String value = properties.getProperty(key);
+        if (value == null) {
+            throw new IllegalStateException("Missing load test setting " + key);
+        }
+        return value.trim();
+    }
+}
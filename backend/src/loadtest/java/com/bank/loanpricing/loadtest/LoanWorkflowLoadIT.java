@@ -0,0 +1,380 @@
+package com.bank.loanpricing.loadtest;
+
+import com.bank.loanpricing.dto.LoanStatsResponse;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.repository.LoanStatsEntryRepository;
+import com.bank.loanpricing.service.LoanStatsTable;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import de.bwaldvogel.mongo.MongoServer;
+import de.bwaldvogel.mongo.MongoVersion;
+import de.bwaldvogel.mongo.backend.memory.MemoryBackend;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Drives the full loan workflow over HTTP against the real application, backed by
+ * an in-process MongoDB wire-protocol server and an embedded Kafka broker, so it
+ * runs offline on one machine. Reports p50/p99/p99.9 latency and throughput per
+ * endpoint to stdout and target/loadtest-report.json, and fails when any budget in
+ * loadtest.properties is exceeded. Sampled traces are written to
+ * target/loadtest-spans.jsonl for drilling into slow requests.
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "outbox.relay.interval-ms=100",
+                "management.server.port=0",
+                "tracing.export.file=target/loadtest-spans.jsonl"
+        })
+@AutoConfigureObservability
+@EmbeddedKafka(partitions = 3, topics = {"loan-events", "loan-events.DLT"})
+class LoanWorkflowLoadIT {
+
+    private static final String[] ENDPOINTS = {
+            "create", "calculate-price", "submit", "get", "under-review", "sanction", "approve", "reject"};
+
+    // The 5.x driver refuses servers below wire version 8, so present the in-memory backend as 4.2
+    private static final MongoVersion MONGO_4_2 = new MongoVersion() {
+        @Override
+        public List<Integer> getVersionArray() {
+            return List.of(4, 2, 0);
+        }
+
+        @Override
+        public int getWireVersion() {
+            return 8;
+        }
+    };
+
+    // Left running until the fork exits: the cached application context still talks to it on shutdown
+    private static final MongoServer MONGO = new MongoServer(new MemoryBackend().version(MONGO_4_2));
+    private static final InetSocketAddress MONGO_ADDRESS = MONGO.bind();
+
+    @DynamicPropertySource
+    static void mongoProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.data.mongodb.uri", () -> "mongodb://" + MONGO_ADDRESS.getHostString()
+                + ":" + MONGO_ADDRESS.getPort() + "/loan_pricing_db");
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Autowired
+    private LoanStatsEntryRepository loanStatsEntryRepository;
+
+    @Autowired
+    private LoanStatsTable loanStatsTable;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient http = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    private String userToken;
+    private String adminToken;
+
+    @Test
+    void workflowStaysWithinBudgets() throws Exception {
+        LoadTestSettings settings = LoadTestSettings.load();
+        int workflows = settings.intValue("workflows");
+        int warmup = settings.intValue("warmup-workflows");
+        int concurrency = settings.intValue("concurrency");
+        double rejectRatio = settings.doubleValue("reject-ratio");
+
+        register("loadtest-user@test.com", "secret123", "USER");
+        userToken = login("loadtest-user@test.com", "secret123");
+        adminToken = login("admin@loanapp.com", "admin123");
+
+        // Warm-up numbers are thrown away
+        int approvedDuringWarmup = run(warmup, concurrency, rejectRatio, newStats());
+
+        Map<String, EndpointStats> stats = newStats();
+        long started = System.nanoTime();
+        int approved = run(workflows, concurrency, rejectRatio, stats);
+        double seconds = (System.nanoTime() - started) / 1e9;
+
+        List<String> violations = report(settings, stats, workflows, seconds);
+
+        // Events flow outbox -> Kafka -> consumer -> loan_stats projection; it must catch up with the workflow
+        long approvedTotal = approved + approvedDuringWarmup;
+        await().atMost(Duration.ofSeconds(60)).untilAsserted(() -> assertEquals(approvedTotal,
+                projectedStats().getByStatus().get(LoanStatus.APPROVED).getCount()));
+
+        // The in-memory stats table, updated on every concurrent transition, must agree with the
+        // projection the consumer built from the events
+        LoanStatsResponse expected = projectedStats();
+        LoanStatsResponse live = loanStatsTable.snapshot(null);
+        for (LoanStatus status : LoanStatus.values()) {
+            assertEquals(expected.getByStatus().get(status).getCount(), live.getByStatus().get(status).getCount());
+        }
+        assertEquals(expected.getTotal().getRequestedAmount(), live.getTotal().getRequestedAmount(), 0.01);
+        assertEquals(expected.getTotal().getSanctionedAmount(), live.getTotal().getSanctionedAmount(), 0.01);
+
+        // Server-side breakdown of the same run (service, repository, JWT, BCrypt, Kafka timers)
+        Files.writeString(Path.of("target", "loadtest-metrics.prom"), get(managementPort, "/actuator/prometheus"));
+
+        assertTrue(violations.isEmpty(), "Load test budgets exceeded:\n" + String.join("\n", violations));
+    }
+
+    private LoanStatsResponse projectedStats() {
+        LoanStatsTable projected = new LoanStatsTable();
+        projected.reset(loanStatsEntryRepository.aggregateStats());
+        return projected.snapshot(null);
+    }
+
+    private int run(int workflows, int concurrency, double rejectRatio, Map<String, EndpointStats> stats)
+            throws Exception {
+
+        ExecutorService users = Executors.newFixedThreadPool(concurrency);
+        AtomicInteger remaining = new AtomicInteger(workflows);
+        AtomicInteger approved = new AtomicInteger();
+
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (int u = 0; u < concurrency; u++) {
+                running.add(users.submit(() -> {
+                    while (remaining.getAndDecrement() > 0) {
+                        boolean reject = ThreadLocalRandom.current().nextDouble() < rejectRatio;
+                        if (workflow(stats, reject)) {
+                            approved.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> user : running) {
+                user.get();
+            }
+        } finally {
+            users.shutdownNow();
+            users.awaitTermination(10, TimeUnit.SECONDS);
+        }
+
+        return approved.get();
+    }
+
+    private Map<String, EndpointStats> newStats() {
+        Map<String, EndpointStats> stats = new LinkedHashMap<>();
+        for (String endpoint : ENDPOINTS) {
+            stats.put(endpoint, new EndpointStats());
+        }
+        return stats;
+    }
+
+    // One loan from creation to decision; returns true if it ended APPROVED
+    private boolean workflow(Map<String, EndpointStats> stats, boolean reject) throws Exception {
+        ObjectNode loan = objectMapper.createObjectNode()
+                .put("clientName", "Load Test Client")
+                .put("loanType", "TERM_LOAN")
+                .put("requestedAmount", 1_000_000)
+                .put("proposedInterestRate", 9.5)
+                .put("tenureMonths", 60);
+        loan.putObject("financials")
+                .put("revenue", 50_000_000L)
+                .put("ebitda", 8_000_000L)
+                .put("rating", "A");
+
+        JsonNode created = call(stats, "create", "POST", "/api/loans", loan, userToken);
+        if (created == null) {
+            return false;
+        }
+        String id = created.get("id").asText();
+
+        call(stats, "calculate-price", "GET", "/api/loans/" + id + "/calculate-price", null, userToken);
+        if (call(stats, "submit", "PATCH", "/api/loans/" + id + "/submit", null, userToken) == null) {
+            return false;
+        }
+        call(stats, "get", "GET", "/api/loans/" + id, null, adminToken);
+        if (call(stats, "under-review", "PATCH", "/api/loans/" + id + "/under-review", null, adminToken) == null) {
+            return false;
+        }
+
+        if (reject) {
+            ObjectNode reason = objectMapper.createObjectNode().put("rejectionReason", "Load test rejection");
+            call(stats, "reject", "PATCH", "/api/loans/" + id + "/reject", reason, adminToken);
+            return false;
+        }
+
+        ObjectNode sanction = objectMapper.createObjectNode()
+                .put("sanctionedAmount", 900_000)
+                .put("approvedInterestRate", 9.25);
+        if (call(stats, "sanction", "PUT", "/api/loans/" + id + "/sanction", sanction, adminToken) == null) {
+            return false;
+        }
+        return call(stats, "approve", "PATCH", "/api/loans/" + id + "/approve", null, adminToken) != null;
+    }
+
+    // Returns the parsed body, or null if the call failed (which is recorded as an error)
+    private JsonNode call(Map<String, EndpointStats> stats, String endpoint, String method, String path,
+                          JsonNode body, String token) throws InterruptedException {
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+        request.method(method, body != null
+                ? HttpRequest.BodyPublishers.ofString(body.toString())
+                : HttpRequest.BodyPublishers.noBody());
+
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = http.send(request.build(), HttpResponse.BodyHandlers.ofString());
+            boolean success = response.statusCode() / 100 == 2;
+            stats.get(endpoint).record(System.nanoTime() - started, success);
+            return success ? objectMapper.readTree(response.body()) : null;
+        } catch (IOException e) {
+            stats.get(endpoint).record(System.nanoTime() - started, false);
+            return null;
+        }
+    }
+
+    private void register(String email, String password, String role) throws Exception {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("email", email)
+                .put("password", password)
+                .put("role", role);
+        post("/api/auth/register", body);
+    }
+
+    private String login(String email, String password) throws Exception {
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("email", email)
+                .put("password", password);
+        return objectMapper.readTree(post("/api/auth/login", body)).get("token").asText();
+    }
+
+    private String post(String path, JsonNode body) throws Exception {
+        HttpResponse<String> response = http.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), path + " failed: " + response.body());
+        return response.body();
+    }
+
+    private String get(int port, String path) throws Exception {
+        HttpResponse<String> response = http.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, response.statusCode(), path + " failed: " + response.body());
+        return response.body();
+    }
+
+    private List<String> report(LoadTestSettings settings, Map<String, EndpointStats> stats,
+                                int workflows, double seconds) throws IOException {
+
+        List<String> violations = new ArrayList<>();
+        long requests = 0;
+        long errors = 0;
+
+        ObjectNode json = objectMapper.createObjectNode();
+        json.put("workflows", workflows)
+                .put("seconds", seconds)
+                .put("workflowsPerSecond", workflows / seconds);
+        ObjectNode endpoints = json.putObject("endpoints");
+
+        StringBuilder table = new StringBuilder(String.format("%n%-16s %8s %7s %10s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        for (Map.Entry<String, EndpointStats> entry : stats.entrySet()) {
+            String endpoint = entry.getKey();
+            EndpointStats s = entry.getValue();
+            if (s.count() == 0) {
+                continue;
+            }
+            requests += s.count();
+            errors += s.errors();
+
+            double p50 = s.percentileMs(50);
+            double p99 = s.percentileMs(99);
+            double p999 = s.percentileMs(99.9);
+            double throughput = s.count() / seconds;
+
+            table.append(String.format("%-16s %8d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint, s.count(), s.errors(), throughput, p50, p99, p999, s.maxMs()));
+
+            endpoints.putObject(endpoint)
+                    .put("count", s.count())
+                    .put("errors", s.errors())
+                    .put("requestsPerSecond", throughput)
+                    .put("p50Ms", p50)
+                    .put("p99Ms", p99)
+                    .put("p999Ms", p999)
+                    .put("maxMs", s.maxMs());
+
+            checkBudget(violations, endpoint, "p50", p50, settings.budget(endpoint, "p50-ms"));
+            checkBudget(violations, endpoint, "p99", p99, settings.budget(endpoint, "p99-ms"));
+            checkBudget(violations, endpoint, "p99.9", p999, settings.budget(endpoint, "p999-ms"));
+        }
+
+        double workflowRate = workflows / seconds;
+        double minWorkflowRate = settings.doubleValue("budget.min-workflows-per-second");
+        if (workflowRate < minWorkflowRate) {
+            violations.add(String.format("throughput %.1f workflows/s is below budget %.1f", workflowRate, minWorkflowRate));
+        }
+
+        double errorRate = requests == 0 ? 0 : (double) errors / requests;
+        double maxErrorRate = settings.doubleValue("budget.max-error-rate");
+        if (errorRate > maxErrorRate) {
+            violations.add(String.format("error rate %.4f exceeds budget %.4f", errorRate, maxErrorRate));
+        }
+
+        table.append(String.format("%d workflows in %.1f s (%.1f workflows/s)%n", workflows, seconds, workflowRate));
+        System.out.println(table);
+
+        json.put("errorRate", errorRate);
+        json.putPOJO("violations", violations);
+        Path out = Path.of("target", "loadtest-report.json");
+        Files.createDirectories(out.getParent());
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(out.toFile(), json);
+
+        return violations;
+    }
+
+    private static void checkBudget(List<String> violations, String endpoint, String metric,
+                                    double actualMs, double budgetMs) {
+        if (actualMs > budgetMs) {
+            violations.add(String.format("%s %s %.2f ms exceeds budget %.2f ms", endpoint, metric, actualMs, budgetMs));
+        }
+    }
+}
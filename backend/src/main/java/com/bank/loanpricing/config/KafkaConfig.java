@@ -1,58 +1,203 @@
 package com.bank.loanpricing.config;
 
+import com.bank.loanpricing.kafka.LoanEvent;
+import com.bank.loanpricing.kafka.LoanEventDeserializer;
+import com.bank.loanpricing.kafka.LoanEventSerializer;
+import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.util.backoff.FixedBackOff;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.UUID;
 
 @EnableKafka
 @Configuration
 public class KafkaConfig {
 
+    public static final String LOAN_EVENTS_TOPIC = "loan-events";
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
+    // Listener concurrency follows the partition count: more threads than partitions sit idle
+    @Value("${loan-events.partitions:3}")
+    private int partitions;
+
+    @Value("${spring.kafka.consumer.max-poll-records:500}")
+    private int maxPollRecords;
+
+    @Value("${spring.kafka.producer.properties.linger.ms:10}")
+    private int lingerMs;
+
+    @Value("${spring.kafka.producer.batch-size:65536}")
+    private int batchSize;
+
+    @Value("${spring.kafka.producer.compression-type:lz4}")
+    private String compressionType;
+
+    @Value("${spring.kafka.producer.properties.max.block.ms:5000}")
+    private long maxBlockMs;
+
+    @Value("${spring.kafka.producer.properties.request.timeout.ms:10000}")
+    private int requestTimeoutMs;
+
+    @Value("${spring.kafka.producer.properties.delivery.timeout.ms:20000}")
+    private int deliveryTimeoutMs;
+
+    private final Environment environment;
+
+    public KafkaConfig(Environment environment) {
+        this.environment = environment;
+    }
+
     // ===================== Producer =====================
     @Bean
-    public ProducerFactory<String, String> producerFactory() {
+    public ProducerFactory<String, LoanEvent> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, LoanEventSerializer.class);
+
+        // Batch small events together and keep per-loan ordering across retries
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, lingerMs);
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+
+        // Bound how long send() may block the request thread waiting for metadata
+        configProps.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, maxBlockMs);
+
+        // Upper bound on retries after send(); LoanOutboxRelay waits this long for an ack
+        // before leaving an event in the outbox, so the two must agree
+        configProps.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, requestTimeoutMs);
+        configProps.put(ProducerConfig.DELIVERY_TIMEOUT_MS_CONFIG, deliveryTimeoutMs);
         return new DefaultKafkaProducerFactory<>(configProps);
     }
 
     @Bean
-    public KafkaTemplate<String, String> kafkaTemplate() {
+    public KafkaTemplate<String, LoanEvent> kafkaTemplate() {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    // ===================== Topics =====================
+    @Bean
+    public NewTopic loanEventsTopic() {
+        return TopicBuilder.name(LOAN_EVENTS_TOPIC).partitions(partitions).build();
+    }
+
+    @Bean
+    public NewTopic loanEventsDeadLetterTopic() {
+        return TopicBuilder.name(LOAN_EVENTS_TOPIC + ".DLT").partitions(partitions).build();
+    }
+
     // ===================== Consumer =====================
     @Bean
-    public ConsumerFactory<String, String> consumerFactory() {
+    public ConsumerFactory<String, LoanEvent> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "loan-group");
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+
+        // Poison records surface as null values instead of failing the whole poll
+        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        configProps.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, LoanEventDeserializer.class);
+
         configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, String> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, LoanEvent> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, LoanEvent> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+
+        // One listener call per poll; offsets committed only when the listener acknowledges
+        factory.setBatchListener(true);
+        factory.setConcurrency(partitions);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(loanEventErrorHandler());
+        useVirtualThreadsIfEnabled(factory, "loan-events-");
         return factory;
     }
+
+    // ===================== Live stream =====================
+    // Every instance must see every partition to serve its own SSE subscribers, so the
+    // stream listener joins a throwaway group of its own and starts at the live end.
+    // Nothing is committed: a restarted instance has no subscribers to catch up.
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, LoanEvent> loanEventStreamContainerFactory() {
+        Map<String, Object> configProps = new HashMap<>(consumerFactory().getConfigurationProperties());
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "loan-events-stream-" + UUID.randomUUID());
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+
+        ConcurrentKafkaListenerContainerFactory<String, LoanEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(configProps));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+
+        // Skip records that fail: the durable consumer already dead-letters them
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(0L, 0L)));
+        useVirtualThreadsIfEnabled(factory, "loan-events-stream-");
+        return factory;
+    }
+
+    // Boot only does this for the factory it builds itself; ours are defined here
+    private void useVirtualThreadsIfEnabled(ConcurrentKafkaListenerContainerFactory<?, ?> factory, String threadPrefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadPrefix);
+            executor.setVirtualThreads(true);
+            factory.getContainerProperties().setListenerTaskExecutor(executor);
+        }
+    }
+
+    // ===================== Dead letters =====================
+    @Bean
+    public DefaultErrorHandler loanEventErrorHandler() {
+        // Retry transient failures a few times, then park the record on loan-events.DLT
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(deadLetterTemplate());
+        return new DefaultErrorHandler(recoverer, new FixedBackOff(1000L, 3));
+    }
+
+    @Bean
+    public KafkaTemplate<Object, Object> deadLetterTemplate() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+
+        // Undeserializable records are republished as their original bytes
+        Map<Class<?>, Serializer<?>> valueSerializers = new LinkedHashMap<>();
+        valueSerializers.put(byte[].class, new ByteArraySerializer());
+        valueSerializers.put(LoanEvent.class, new LoanEventSerializer());
+
+        DefaultKafkaProducerFactory<Object, Object> factory = new DefaultKafkaProducerFactory<>(configProps);
+        factory.setValueSerializer(new DelegatingByTypeSerializer(valueSerializers));
+        return new KafkaTemplate<>(factory);
+    }
 }
@@ -0,0 +1,102 @@
+package com.bank.loanpricing.config;
+
+import com.bank.loanpricing.model.LoanAction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * One-off migration that moves the legacy embedded {@code loans.actions} arrays
+ * into the {@code loan_actions} collection. It runs while the context starts,
+ * before the web server takes requests: {@link com.bank.loanpricing.model.Loan}
+ * has no {@code actions} field, so a full-document save would drop a history that
+ * was not copied yet. Once it completes a marker in {@link MigrationLog} stops later
+ * boots from scanning the loans again. Safe to re-run after a failure: action ids
+ * are derived from the loan id and array position, and the embedded array is removed
+ * only after its entries have been upserted.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanActionMigration implements SmartInitializingSingleton {
+
+    static final String MIGRATION_ID = "loan-actions-v1";
+
+    private static final String LOANS = "loans";
+
+    private final MongoTemplate mongoTemplate;
+    private final MigrationLog migrationLog;
+
+    @Value("${migration.loan-actions.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            if (migrationLog.isApplied(MIGRATION_ID)) {
+                return;
+            }
+            migrateEmbeddedActions();
+            migrationLog.markApplied(MIGRATION_ID);
+        } catch (Exception e) {
+            log.error("❌ Loan action migration failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void migrateEmbeddedActions() {
+        Document filter = new Document("actions", new Document("$exists", true));
+        Document projection = new Document("actions", 1);
+
+        int migratedLoans = 0;
+        int migratedActions = 0;
+
+        for (Document loan : mongoTemplate.getCollection(LOANS).find(filter).projection(projection)) {
+            String loanId = loan.get("_id").toString();
+            List<Document> actions = loan.getList("actions", Document.class);
+
+            if (actions != null && !actions.isEmpty()) {
+                BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LoanAction.class);
+                for (int i = 0; i < actions.size(); i++) {
+                    Document action = actions.get(i);
+                    Date timestamp = action.getDate("timestamp");
+
+                    bulk.upsert(
+                            Query.query(where("_id").is(loanId + ":" + i)),
+                            new Update()
+                                    .set("loanId", loanId)
+                                    .set("by", action.getString("by"))
+                                    .set("action", action.getString("action"))
+                                    .set("comments", action.getString("comments"))
+                                    .set("timestamp", timestamp != null ? timestamp.toInstant() : null));
+                }
+                bulk.execute();
+                migratedActions += actions.size();
+            }
+
+            mongoTemplate.getCollection(LOANS).updateOne(
+                    new Document("_id", loan.get("_id")),
+                    new Document("$unset", new Document("actions", "")));
+            migratedLoans++;
+        }
+
+        if (migratedLoans > 0) {
+            log.info("✅ Migrated {} embedded actions from {} loans into loan_actions", migratedActions, migratedLoans);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.bank.loanpricing.config;
+
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatsBucket;
+import com.bank.loanpricing.model.LoanStatsEntry;
+import com.bank.loanpricing.repository.LoanRepository;
+import com.bank.loanpricing.repository.LoanStatsEntryRepository;
+import com.bank.loanpricing.service.LoanStatsTable;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Rebuilds {@link LoanStatsTable} from the loan_stats projection that
+ * {@link com.bank.loanpricing.consumer.LoanEventConsumer} maintains, with a single
+ * aggregation; the loans collection is never scanned for reporting. The first run
+ * happens while the context starts, before the web server takes requests; after that
+ * it repeats on a fixed delay, which picks up writes made by other instances and
+ * repairs increments lost to a concurrent swap.
+ * <p>
+ * On the very first start the projection is seeded once from the loans collection;
+ * a marker in {@link MigrationLog} keeps later starts from doing it again.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanStatsReconciler implements SmartInitializingSingleton {
+
+    static final String SEED_ID = "loan-stats-seed-v1";
+
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private final LoanRepository loanRepository;
+    private final LoanStatsEntryRepository loanStatsEntryRepository;
+    private final LoanStatsTable loanStatsTable;
+    private final MigrationLog migrationLog;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        try {
+            if (!migrationLog.isApplied(SEED_ID)) {
+                seedProjection();
+                migrationLog.markApplied(SEED_ID);
+            }
+        } catch (Exception e) {
+            log.error("❌ Loan stats projection seed failed: {}", e.getMessage(), e);
+        }
+        reconcile();
+    }
+
+    @Scheduled(initialDelayString = "${loan-stats.reconcile-interval-ms:300000}",
+            fixedDelayString = "${loan-stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            List<LoanStatsBucket> buckets = loanStatsEntryRepository.aggregateStats();
+            loanStatsTable.reset(buckets);
+
+            long loans = buckets.stream().mapToLong(LoanStatsBucket::getCount).sum();
+            log.info("✅ Loan stats reconciled: {} loans in {} buckets", loans, buckets.size());
+        } catch (Exception e) {
+            log.error("❌ Loan stats reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    // Version-guarded like the consumer's writes, so events consumed meanwhile are never undone
+    private void seedProjection() {
+        long seeded = 0;
+        try (Stream<Loan> loans = loanRepository.streamStatsInputs()) {
+            List<LoanStatsEntry> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (Iterator<Loan> it = loans.iterator(); it.hasNext(); ) {
+                batch.add(toEntry(it.next()));
+                if (batch.size() == SEED_BATCH_SIZE || !it.hasNext()) {
+                    loanStatsEntryRepository.upsertIfNewer(batch);
+                    seeded += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        log.info("✅ Loan stats projection seeded with {} loans", seeded);
+    }
+
+    private static LoanStatsEntry toEntry(Loan loan) {
+        LoanStatsEntry entry = new LoanStatsEntry();
+        entry.setLoanId(loan.getId());
+        entry.setCreatedBy(loan.getCreatedBy());
+        entry.setLoanType(loan.getLoanType());
+        entry.setStatus(loan.getStatus());
+        entry.setRequestedAmount(loan.getRequestedAmount());
+        entry.setSanctionedAmount(loan.getSanctionedAmount());
+        entry.setDeleted(loan.isDeleted());
+        entry.setVersion(loan.getVersion() != null ? loan.getVersion() : 0L);
+        return entry;
+    }
+}
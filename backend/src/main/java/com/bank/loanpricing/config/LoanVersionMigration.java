@@ -0,0 +1,43 @@
+package com.bank.loanpricing.config;
+
+import com.bank.loanpricing.model.Loan;
+import com.mongodb.client.result.UpdateResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+/**
+ * Backfills {@code version = 0} on loans created before {@link Loan} gained
+ * {@code @Version}. Without it Spring Data treats a loaded legacy loan as new
+ * and {@code save} fails with a duplicate key.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LoanVersionMigration implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        try {
+            UpdateResult result = mongoTemplate.updateMulti(
+                    Query.query(where("version").exists(false)),
+                    new Update().set("version", 0L),
+                    Loan.class);
+
+            if (result.getModifiedCount() > 0) {
+                log.info("✅ Initialised version on {} legacy loans", result.getModifiedCount());
+            }
+        } catch (Exception e) {
+            log.error("❌ Loan version backfill failed: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.bank.loanpricing.config;
+
+import lombok.RequiredArgsConstructor;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+
+/**
+ * Completion markers for one-off data migrations, one document per migration id
+ * in the {@code migrations} collection. A migration that finds its marker is
+ * skipped, so it never rescans the data it already converted.
+ */
+@Component
+@RequiredArgsConstructor
+class MigrationLog {
+
+    private static final String MIGRATIONS = "migrations";
+
+    private final MongoTemplate mongoTemplate;
+
+    boolean isApplied(String migrationId) {
+        return mongoTemplate.getCollection(MIGRATIONS)
+                .find(new Document("_id", migrationId))
+                .first() != null;
+    }
+
+    void markApplied(String migrationId) {
+        mongoTemplate.getCollection(MIGRATIONS).replaceOne(
+                new Document("_id", migrationId),
+                new Document("_id", migrationId).append("completedAt", new Date()),
+                new ReplaceOptions().upsert(true));
+    }
+}
@@ -0,0 +1,119 @@
+package com.bank.loanpricing.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.IndexResolver;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentEntity;
+import org.springframework.data.mongodb.core.mapping.MongoPersistentProperty;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.support.Repositories;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Creates the indexes declared on mapped documents ({@code @Indexed},
+ * {@code @CompoundIndex}) at startup, then reports derived repository queries
+ * whose leading criteria no index can serve.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class MongoIndexManager implements ApplicationRunner {
+
+    private final MongoTemplate mongoTemplate;
+    private final ListableBeanFactory beanFactory;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        MappingContext<? extends MongoPersistentEntity<?>, MongoPersistentProperty> mappingContext =
+                mongoTemplate.getConverter().getMappingContext();
+        IndexResolver resolver = new MongoPersistentEntityIndexResolver(mappingContext);
+
+        for (MongoPersistentEntity<?> entity : mappingContext.getPersistentEntities()) {
+            if (entity.isAnnotationPresent(Document.class)) {
+                ensureIndexes(entity, resolver);
+            }
+        }
+
+        reportUnindexedQueries();
+    }
+
+    private void ensureIndexes(MongoPersistentEntity<?> entity, IndexResolver resolver) {
+        IndexOperations indexOps = mongoTemplate.indexOps(entity.getType());
+
+        resolver.resolveIndexFor(entity.getTypeInformation()).forEach(index -> {
+            try {
+                indexOps.createIndex(index);
+            } catch (Exception e) {
+                // e.g. duplicate emails blocking the unique index; keep starting up
+                log.error("❌ Could not create index {} on {}: {}",
+                        index.getIndexOptions(), entity.getCollection(), e.getMessage());
+            }
+        });
+    }
+
+    // Returns the flagged "Repository.method" names so the check can be asserted on
+    List<String> reportUnindexedQueries() {
+        Repositories repositories = new Repositories(beanFactory);
+        List<String> unindexed = new ArrayList<>();
+
+        for (Class<?> domainType : repositories) {
+            RepositoryInformation info = repositories.getRequiredRepositoryInformation(domainType);
+            Set<String> leadingKeys = leadingIndexKeys(domainType);
+
+            for (Method method : info.getQueryMethods()) {
+                Set<String> properties = queriedProperties(method.getName(), domainType);
+
+                if (!properties.isEmpty() && properties.stream().noneMatch(leadingKeys::contains)) {
+                    String name = info.getRepositoryInterface().getSimpleName() + "." + method.getName();
+                    log.warn("⚠️  {} queries {} but no index leads with any of them", name, properties);
+                    unindexed.add(name);
+                }
+            }
+        }
+        return unindexed;
+    }
+
+    private Set<String> leadingIndexKeys(Class<?> domainType) {
+        Set<String> keys = new HashSet<>();
+        List<IndexInfo> indexes = mongoTemplate.indexOps(domainType).getIndexInfo();
+
+        for (IndexInfo index : indexes) {
+            if (!index.getIndexFields().isEmpty()) {
+                keys.add(index.getIndexFields().get(0).getKey());
+            }
+        }
+        return keys;
+    }
+
+    private Set<String> queriedProperties(String methodName, Class<?> domainType) {
+        Set<String> properties = new HashSet<>();
+        try {
+            for (Part part : new PartTree(methodName, domainType).getParts()) {
+                properties.add(part.getProperty().toDotPath());
+            }
+        } catch (Exception e) {
+            // @Query methods and custom fragments do not follow the derivation grammar
+        }
+        return properties;
+    }
+}
@@ -0,0 +1,38 @@
+package com.bank.loanpricing.config;
+
+import com.bank.loanpricing.tracing.JsonLinesSpanExporter;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.mongodb.observability.ContextProviderFactory;
+import org.springframework.data.mongodb.observability.MongoObservationCommandListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Tracing beyond what Boot wires on its own: Mongo commands as child spans, and
+ * an optional file exporter next to (or instead of) the OTLP one, which Boot
+ * creates only when management.otlp.tracing.endpoint is set.
+ */
+@Configuration
+public class TracingConfig {
+
+    // Each command becomes a child of the observation current on the calling thread
+    @Bean
+    public MongoClientSettingsBuilderCustomizer mongoTracing(ObservationRegistry observationRegistry) {
+        return settings -> settings
+                .contextProvider(ContextProviderFactory.create(observationRegistry))
+                .addCommandListener(new MongoObservationCommandListener(observationRegistry));
+    }
+
+    @Bean
+    @ConditionalOnProperty("tracing.export.file")
+    public SpanExporter jsonLinesSpanExporter(@Value("${tracing.export.file}") String file) throws IOException {
+        return new JsonLinesSpanExporter(Path.of(file));
+    }
+}
@@ -0,0 +1,89 @@
+package com.bank.loanpricing.config;
+
+import io.micrometer.core.instrument.Metrics;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Reports virtual threads that block while pinned to their carrier thread, which on
+ * Java 21 happens when they park inside a {@code synchronized} block or a native
+ * frame. A pinned thread holds one of the few carriers, so a handful of them can
+ * stall every request. Events come from JFR ({@code jdk.VirtualThreadPinned}) and
+ * are counted per call site in {@code loan.threads.virtual.pinned}.
+ *
+ * <p>Only runs when {@code spring.threads.virtual.enabled} is on and the runtime
+ * supports virtual threads; on Java 17 it does nothing.
+ */
+@Component
+@Slf4j
+public class VirtualThreadPinningMonitor implements ApplicationRunner, DisposableBean {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String APP_PACKAGE = "com.bank.loanpricing.";
+
+    private final Environment environment;
+    private final Duration threshold;
+
+    private RecordingStream stream;
+
+    public VirtualThreadPinningMonitor(Environment environment,
+                                       @Value("${virtual-threads.pinned.threshold-ms:20}") long thresholdMs) {
+        this.environment = environment;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            return;
+        }
+        try {
+            stream = new RecordingStream();
+            stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+            stream.onEvent(PINNED_EVENT, this::onPinned);
+            stream.startAsync();
+            log.info("✅ Watching for pinned virtual threads (threshold {} ms)", threshold.toMillis());
+        } catch (Exception e) {
+            log.error("❌ Could not start virtual thread pinning monitor: {}", e.getMessage(), e);
+        }
+    }
+
+    private void onPinned(RecordedEvent event) {
+        String site = callSite(event.getStackTrace());
+        Metrics.timer("loan.threads.virtual.pinned", "site", site).record(event.getDuration());
+        log.warn("⚠️  Virtual thread pinned for {} ms at {}", event.getDuration().toMillis(), site);
+    }
+
+    // Innermost application frame, so the tag names our code rather than the JDK lock
+    static String callSite(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        RecordedFrame site = frames.stream()
+                .filter(frame -> frame.getMethod().getType().getName().startsWith(APP_PACKAGE))
+                .findFirst()
+                .orElse(frames.get(0));
+        return site.getMethod().getType().getName() + "." + site.getMethod().getName();
+    }
+
+    @Override
+    public void destroy() {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+}
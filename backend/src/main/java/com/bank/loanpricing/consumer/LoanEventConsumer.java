@@ -1,13 +1,140 @@
 package com.bank.loanpricing.consumer;
 
+import com.bank.loanpricing.kafka.LoanEvent;
+import com.bank.loanpricing.model.LoanStatsEntry;
+import com.bank.loanpricing.repository.LoanStatsEntryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.bank.loanpricing.tracing.TraceContextCarrier;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.tracing.Span;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Consumes loan-events in batches and maintains the loan_stats projection: the
+ * newest snapshot of each loan in the batch is upserted in one bulk write, and
+ * dashboard totals are aggregated from there instead of from the loans collection
+ * (see {@link com.bank.loanpricing.config.LoanStatsReconciler}). Snapshots carry the
+ * loan version, so redelivered or out-of-order events are harmless. Also records
+ * how far behind the outbox pipeline runs (loan.events.consumed,
+ * loan.events.end.to.end). Offsets are committed only after the batch has been applied.
+ */
+@Slf4j
 @Component
 public class LoanEventConsumer {
 
+    private final LoanStatsEntryRepository loanStatsEntryRepository;
+    private final TraceContextCarrier traceContextCarrier;
+
+    // Delivery is at-least-once; recently applied event ids absorb relay retries
+    private final Cache<String, Boolean> appliedEvents = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .build();
+
+    public LoanEventConsumer(LoanStatsEntryRepository loanStatsEntryRepository,
+                             TraceContextCarrier traceContextCarrier) {
+        this.loanStatsEntryRepository = loanStatsEntryRepository;
+        this.traceContextCarrier = traceContextCarrier;
+    }
+
     @KafkaListener(topics = "loan-events", groupId = "loan-group")
-    public void listen(String message) {
-        System.out.println("Received Kafka Event: " + message);
+    public void listen(List<ConsumerRecord<String, LoanEvent>> records, Acknowledgment ack) {
+        long start = System.nanoTime();
+        String outcome = "failure";
+
+        // One span per record, continuing the trace from its headers; they end once the
+        // batch write they took part in is done, so they cover the projection update too
+        List<Span> spans = new ArrayList<>(records.size());
+        try {
+            apply(records, spans);
+            ack.acknowledge();
+            outcome = "success";
+        } catch (RuntimeException e) {
+            spans.forEach(span -> span.error(e));
+            throw e;
+        } finally {
+            spans.forEach(Span::end);
+            Metrics.timer("loan.events.consume", "outcome", outcome)
+                    .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void apply(List<ConsumerRecord<String, LoanEvent>> records, List<Span> spans) {
+        Map<String, LoanStatsEntry> newest = new LinkedHashMap<>();
+        List<String> eventIds = new ArrayList<>(records.size());
+
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<String, LoanEvent> record = records.get(i);
+            LoanEvent event = record.value();
+            spans.add(traceContextCarrier.startSpan("loan-events process", Span.Kind.CONSUMER, record.headers())
+                    .tag("messaging.system", "kafka")
+                    .tag("messaging.destination.name", record.topic())
+                    .tag("loan.id", String.valueOf(record.key())));
+
+            // Null means the ErrorHandlingDeserializer could not read it: send it to the DLT
+            if (event == null || event.status() == null) {
+                // Offsets before this record are committed: their snapshots must be stored first
+                applySnapshots(newest, eventIds);
+                throw new BatchListenerFailedException("Unreadable loan event", i);
+            }
+
+            String status = event.status().name();
+            if (event.eventId() != null && appliedEvents.getIfPresent(event.eventId()) != null) {
+                Metrics.counter("loan.events.consumed", "status", status, "result", "duplicate").increment();
+                continue;
+            }
+            Metrics.counter("loan.events.consumed", "status", status, "result", "new").increment();
+
+            // Transition committed in Mongo -> visible to this consumer, across outbox relay and broker
+            if (event.occurredAt() != null) {
+                Metrics.timer("loan.events.end.to.end", "status", status)
+                        .record(Duration.between(event.occurredAt(), Instant.now()));
+            }
+
+            // Events published before snapshots were added carry none; the seed covers them
+            if (event.loan() != null) {
+                newest.merge(event.loanId(), toEntry(event),
+                        (stored, candidate) -> candidate.getVersion() > stored.getVersion() ? candidate : stored);
+            }
+            if (event.eventId() != null) {
+                eventIds.add(event.eventId());
+            }
+        }
+
+        applySnapshots(newest, eventIds);
+    }
+
+    private void applySnapshots(Map<String, LoanStatsEntry> newest, List<String> eventIds) {
+        loanStatsEntryRepository.upsertIfNewer(List.copyOf(newest.values()));
+        eventIds.forEach(id -> appliedEvents.put(id, Boolean.TRUE));
+        newest.clear();
+        eventIds.clear();
+    }
+
+    private static LoanStatsEntry toEntry(LoanEvent event) {
+        LoanEvent.Snapshot snapshot = event.loan();
+        LoanStatsEntry entry = new LoanStatsEntry();
+        entry.setLoanId(event.loanId());
+        entry.setCreatedBy(event.createdBy());
+        entry.setLoanType(snapshot.loanType());
+        entry.setStatus(snapshot.status());
+        entry.setRequestedAmount(snapshot.requestedAmount());
+        entry.setSanctionedAmount(snapshot.sanctionedAmount());
+        entry.setDeleted(snapshot.deleted());
+        entry.setVersion(snapshot.version());
+        return entry;
     }
 }
@@ -0,0 +1,51 @@
+package com.bank.loanpricing.consumer;
+
+import com.bank.loanpricing.config.KafkaConfig;
+import com.bank.loanpricing.kafka.LoanEvent;
+import com.bank.loanpricing.stream.LoanEventStream;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Second, per-instance subscription to loan-events that feeds the live SSE
+ * stream. Unlike {@link LoanEventConsumer} it shares no consumer group, so each
+ * instance receives every partition; see {@code loanEventStreamContainerFactory}.
+ */
+@Component
+public class LoanEventStreamListener {
+
+    private final LoanEventStream loanEventStream;
+
+    // Relay retries can repeat an event; clients apply each one as a status delta
+    private final Cache<String, Boolean> streamedEvents = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .build();
+
+    public LoanEventStreamListener(LoanEventStream loanEventStream) {
+        this.loanEventStream = loanEventStream;
+    }
+
+    @KafkaListener(topics = KafkaConfig.LOAN_EVENTS_TOPIC,
+            id = "loan-events-stream",
+            idIsGroup = false,
+            containerFactory = "loanEventStreamContainerFactory")
+    public void listen(List<ConsumerRecord<String, LoanEvent>> records) {
+        for (ConsumerRecord<String, LoanEvent> record : records) {
+            LoanEvent event = record.value();
+
+            // Unreadable records are dead-lettered by LoanEventConsumer; nothing to show here
+            if (event == null || event.status() == null) {
+                continue;
+            }
+            if (event.eventId() != null && streamedEvents.asMap().putIfAbsent(event.eventId(), Boolean.TRUE) != null) {
+                continue;
+            }
+            loanEventStream.publish(event);
+        }
+    }
+}
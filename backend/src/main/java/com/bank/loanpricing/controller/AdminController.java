@@ -2,6 +2,7 @@ package com.bank.loanpricing.controller;
 
 import com.bank.loanpricing.model.User;
 import com.bank.loanpricing.repository.UserRepository;
+import com.bank.loanpricing.security.CustomUserDetailsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,6 +22,7 @@ public class AdminController {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final CustomUserDetailsService userDetailsService;
 
     @PostMapping
     public User createUser(@Valid @RequestBody User user) {
@@ -35,7 +37,11 @@ public class AdminController {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         user.setActive(payload.get("active"));
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+
+        // Drop the cached principal so a deactivated user loses access immediately
+        userDetailsService.evictUser(user.getEmail());
+        return saved;
     }
     @GetMapping
     public List<User> getAllUsers() {
@@ -1,21 +1,44 @@
 package com.bank.loanpricing.controller;
 
+import com.bank.loanpricing.dto.AmortizationSummary;
+import com.bank.loanpricing.dto.BulkPriceRequest;
+import com.bank.loanpricing.dto.CursorPage;
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.dto.LoanStatsResponse;
 import com.bank.loanpricing.dto.PriceResponse;
 import com.bank.loanpricing.dto.SanctionRequest;
+import com.bank.loanpricing.dto.SensitivityRequest;
+import com.bank.loanpricing.dto.SensitivityResponse;
 import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanAction;
 import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.security.SecurityUtil;
+import com.bank.loanpricing.service.AmortizationService;
 import com.bank.loanpricing.service.LoanService;
+import com.bank.loanpricing.service.PortfolioPricingService;
+import com.bank.loanpricing.service.SensitivityService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.stream.Stream;
 
 //@CrossOrigin(origins = "http://localhost:4200")
 @RestController
@@ -23,7 +46,13 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class LoanController {
 
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final LoanService loanService;
+    private final PortfolioPricingService portfolioPricingService;
+    private final AmortizationService amortizationService;
+    private final SensitivityService sensitivityService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @PreAuthorize("hasAnyRole('USER','ADMIN')")
@@ -32,9 +61,20 @@ public class LoanController {
         return loanService.createLoan(loan, user);
     }
 
+    // Streams every non-deleted loan straight from a Mongo cursor with constant memory
     @GetMapping
-    public List<Loan> getLoans() {
-        return loanService.getAllLoans();
+    public ResponseEntity<StreamingResponseBody> getLoans() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writeLoans(out, false));
+    }
+
+    // Same stream as newline-delimited JSON, one loan per line
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportLoans() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(out -> writeLoans(out, true));
     }
 
     @GetMapping("/{id}")
@@ -53,9 +93,41 @@ public class LoanController {
     @GetMapping("/{id}/calculate-price")
     @PreAuthorize("hasRole('USER')")
     public PriceResponse calculatePrice(@PathVariable String id) {
+        return new PriceResponse(loanService.calculatePrice(id));
+    }
+
+    // Bulk repricing: one NDJSON line per loan, streamed as chunks are priced
+    @PostMapping("/price")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<StreamingResponseBody> priceLoans(@Valid @RequestBody BulkPriceRequest request) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NDJSON_VALUE))
+                .body(out -> writePrices(out, request));
+    }
+
+    // What-if price matrix over rate/tenure/amount ranges; the loan is not modified
+    @PostMapping("/sensitivity")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public SensitivityResponse priceSensitivity(@Valid @RequestBody SensitivityRequest request) {
+        return sensitivityService.priceGrid(request);
+    }
+
+    // Full EMI schedule, one row per month, streamed as it is written
+    @GetMapping("/{id}/schedule")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public ResponseEntity<StreamingResponseBody> getSchedule(@PathVariable String id) {
         Loan loan = loanService.getLoanById(id);
-        double price = loanService.calculatePrice(loan);
-        return new PriceResponse(price);
+        amortizationService.validate(loan);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(out -> writeSchedule(out, loan));
+    }
+
+    @GetMapping("/{id}/schedule/summary")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public AmortizationSummary getScheduleSummary(@PathVariable String id) {
+        return amortizationService.summarize(loanService.getLoanById(id));
     }
 
     @PutMapping("/{id}/sanction")
@@ -105,7 +177,7 @@ public class LoanController {
     }
     @GetMapping("/paginated")
     @PreAuthorize("hasAnyRole('USER','ADMIN')")
-    public Page<Loan> getLoansPaginated(
+    public Page<LoanResponse> getLoansPaginated(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
@@ -114,16 +186,113 @@ public class LoanController {
     }
     @GetMapping("/status/{status}")
     @PreAuthorize("hasAnyRole('USER','ADMIN')")
-    public Page<Loan> getLoansByStatus(
+    public Page<LoanResponse> getLoansByStatus(
             @PathVariable LoanStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size) {
 
         return loanService.getLoansByStatus(status, PageRequest.of(page, size));
     }
+    // Keyset variant of /paginated and /status/{status}; pass back nextCursor for the next page
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public CursorPage<LoanResponse> getLoansByCursor(
+            @RequestParam(required = false) LoanStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        return loanService.getLoansByCursor(status, cursor, size, includeTotal);
+    }
+
+    // Dashboard tiles: status/type/user totals from memory instead of listing loans
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public LoanStatsResponse getLoanStats() {
+        // Everyone sees the portfolio totals; only admins see other users' breakdowns
+        String onlyUser = SecurityUtil.hasRole("ADMIN") ? null : SecurityUtil.getCurrentUserEmail();
+        return loanService.getLoanStats(onlyUser);
+    }
+
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public Page<LoanAction> getLoanHistory(
+            @PathVariable String id,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return loanService.getLoanHistory(id, PageRequest.of(page, size));
+    }
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     public Loan deleteLoan(@PathVariable String id) {
         return loanService.softDeleteLoan(id);
     }
-}
\ No newline at end of file
+
+    private void writeLoans(OutputStream out, boolean ndjson) throws IOException {
+        try (Stream<Loan> loans = loanService.streamActiveLoans();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+
+            if (ndjson) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+            } else {
+                generator.writeStartArray();
+            }
+
+            // The mapper flushes after every value by default; here the generator's buffer
+            // goes out when it fills and once more on close
+            ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            Iterator<Loan> it = loans.iterator();
+            while (it.hasNext()) {
+                writer.writeValue(generator, it.next());
+            }
+
+            if (!ndjson) {
+                generator.writeEndArray();
+            } else {
+                generator.writeRaw('\n');
+            }
+        }
+    }
+
+    private void writePrices(OutputStream out, BulkPriceRequest request) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            portfolioPricingService.priceLoans(request.getLoanIds(), request.getStatus(), (loanId, price) -> {
+                generator.writeStartObject();
+                generator.writeStringField("loanId", loanId);
+                if (Double.isNaN(price)) {
+                    generator.writeNullField("calculatedPrice");
+                } else {
+                    generator.writeNumberField("calculatedPrice", price);
+                }
+                generator.writeEndObject();
+            });
+
+            generator.writeRaw('\n');
+        }
+    }
+
+    private void writeSchedule(OutputStream out, Loan loan) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.writeStartObject();
+            generator.writeStringField("loanId", loan.getId());
+            generator.writeArrayFieldStart("rows");
+
+            double monthlyPayment = amortizationService.forEachRow(loan, (month, payment, principal, interest, balance) -> {
+                generator.writeStartObject();
+                generator.writeNumberField("month", month);
+                generator.writeNumberField("payment", payment);
+                generator.writeNumberField("principal", principal);
+                generator.writeNumberField("interest", interest);
+                generator.writeNumberField("balance", balance);
+                generator.writeEndObject();
+            });
+
+            generator.writeEndArray();
+            generator.writeNumberField("monthlyPayment", monthlyPayment);
+            generator.writeEndObject();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.bank.loanpricing.controller;
+
+import com.bank.loanpricing.security.SecurityUtil;
+import com.bank.loanpricing.stream.LoanEventStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/loans")
+@RequiredArgsConstructor
+public class LoanEventController {
+
+    private final LoanEventStream loanEventStream;
+
+    // Live "loan-status" events: admins get every loan, users only the loans they created
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public SseEmitter streamLoanEvents() {
+        return loanEventStream.subscribe(SecurityUtil.getCurrentUserEmail(), SecurityUtil.hasRole("ADMIN"));
+    }
+}
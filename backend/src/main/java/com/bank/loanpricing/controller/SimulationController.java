@@ -0,0 +1,32 @@
+package com.bank.loanpricing.controller;
+
+import com.bank.loanpricing.dto.RateShockRequest;
+import com.bank.loanpricing.dto.SimulationJobResponse;
+import com.bank.loanpricing.simulation.SimulationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/simulations")
+@RequiredArgsConstructor
+public class SimulationController {
+
+    private final SimulationService simulationService;
+
+    // Starts a run over the approved book; poll GET /{id} for progress and results
+    @PostMapping("/rate-shock")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<SimulationJobResponse> startRateShock(@Valid @RequestBody RateShockRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(simulationService.submit(request));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public SimulationJobResponse getSimulation(@PathVariable String id) {
+        return simulationService.getJob(id);
+    }
+}
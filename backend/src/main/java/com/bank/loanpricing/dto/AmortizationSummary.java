@@ -0,0 +1,16 @@
+package com.bank.loanpricing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AmortizationSummary {
+    private String loanId;
+    private double loanAmount;
+    private double annualInterestRate;
+    private int tenureMonths;
+    private double monthlyPayment;
+    private double totalPayment;
+    private double totalInterest;
+}
@@ -0,0 +1,17 @@
+package com.bank.loanpricing.dto;
+
+import com.bank.loanpricing.model.LoanStatus;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+// Both empty reprices the whole active book
+@Data
+public class BulkPriceRequest {
+
+    @Size(max = 10000, message = "At most 10000 loan ids per request")
+    private List<String> loanIds;
+
+    private LoanStatus status;
+}
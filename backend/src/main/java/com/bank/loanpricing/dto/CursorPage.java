@@ -0,0 +1,15 @@
+package com.bank.loanpricing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private String nextCursor;      // opaque; null on the last page
+    private boolean hasNext;
+    private Long totalElements;     // null unless explicitly requested
+}
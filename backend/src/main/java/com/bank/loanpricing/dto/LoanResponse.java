@@ -1,15 +1,29 @@
 package com.bank.loanpricing.dto;
 
-import com.bank.loanpricing.model.Financials;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 
+import java.time.Instant;
+
+/**
+ * List-row view of a loan. Used as a DTO projection: Spring Data reads the
+ * constructor parameter names and fetches only these fields from Mongo, so
+ * pages never load financials, audit or outbox data. The full document is
+ * served by {@code GET /api/loans/{id}}.
+ */
 @Data
+@AllArgsConstructor
 public class LoanResponse {
 
     private String id;
     private String clientName;
-    private Double requestedAmount;
-    private String status;
-
-    private Financials financials;
+    private LoanType loanType;
+    private double requestedAmount;
+    private int tenureMonths;
+    private LoanStatus status;
+    private String createdBy;
+    private Instant createdAt;      // keyset cursor key for /scroll
+    private boolean deleted;
 }
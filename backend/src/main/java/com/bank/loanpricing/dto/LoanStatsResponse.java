@@ -0,0 +1,26 @@
+package com.bank.loanpricing.dto;
+
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+// Totals over non-deleted loans; sanctionedAmount only counts APPROVED loans
+@Data
+@AllArgsConstructor
+public class LoanStatsResponse {
+    private Totals total;
+    private Map<LoanStatus, Totals> byStatus;
+    private Map<LoanType, Totals> byType;
+    private Map<String, Totals> byUser;     // keyed by createdBy; USER callers only see their own
+
+    @Data
+    @AllArgsConstructor
+    public static class Totals {
+        private long count;
+        private double requestedAmount;
+        private double sanctionedAmount;
+    }
+}
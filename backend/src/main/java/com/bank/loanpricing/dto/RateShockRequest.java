@@ -0,0 +1,23 @@
+package com.bank.loanpricing.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+@Data
+public class RateShockRequest {
+
+    @Min(value = 100, message = "At least 100 paths are required")
+    @Max(value = 10_000_000, message = "At most 10000000 paths per run")
+    private int paths = 10_000;
+
+    // Annualised volatility and drift of the benchmark shock, in percentage points
+    @PositiveOrZero
+    private double annualVolatility = 1.0;
+
+    private double annualDrift = 0.0;
+
+    // Fixes the random stream so a run can be reproduced
+    private Long seed;
+}
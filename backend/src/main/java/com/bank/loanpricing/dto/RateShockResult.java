@@ -0,0 +1,21 @@
+package com.bank.loanpricing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Total repayment cost of the approved book across simulated paths
+@Data
+@AllArgsConstructor
+public class RateShockResult {
+    private int loans;
+    private long paths;
+    private double baseCost;
+    private double mean;
+    private double min;
+    private double max;
+    private double p50;
+    private double p90;
+    private double p95;
+    private double p99;
+    private double p999;
+}
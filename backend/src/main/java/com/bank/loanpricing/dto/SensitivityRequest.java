@@ -0,0 +1,49 @@
+package com.bank.loanpricing.dto;
+
+import com.bank.loanpricing.model.LoanType;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Data;
+
+/**
+ * Base terms come from {@code loanId} when given, otherwise from the inline
+ * fields. An omitted range holds that input at its base value.
+ */
+@Data
+public class SensitivityRequest {
+
+    private String loanId;
+
+    // Inline terms, used when no loanId is given
+    private LoanType loanType;
+    private String rating;
+    private Double requestedAmount;
+    private Double proposedInterestRate;
+    private Integer tenureMonths;
+
+    @Valid
+    private Range rate;
+    @Valid
+    private Range tenure;
+    @Valid
+    private Range amount;
+
+    // Inclusive range: from, from + step, ... up to to. Tenure ranges must use whole months.
+    @Data
+    public static class Range {
+        @PositiveOrZero(message = "Range must not start below zero")
+        private double from;
+        private double to;
+        @Positive(message = "Range step must be positive")
+        private double step;
+
+        @JsonIgnore
+        @AssertTrue(message = "Range end must not be below its start")
+        public boolean isOrdered() {
+            return to >= from;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bank.loanpricing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Price matrix over the requested axes. {@code prices} is flattened amount-major:
+ * the price for (amounts[a], tenures[t], rates[r]) is at
+ * {@code (a * tenures.length + t) * rates.length + r}.
+ */
+@Data
+@AllArgsConstructor
+public class SensitivityResponse {
+    private double[] rates;
+    private int[] tenures;
+    private double[] amounts;
+    private double[] prices;
+}
@@ -0,0 +1,19 @@
+package com.bank.loanpricing.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class SimulationJobResponse {
+    private String id;
+    private String status;
+    private Instant submittedAt;
+    private Instant completedAt;
+    private long totalPaths;
+    private long completedPaths;
+    private String error;
+    private RateShockResult result;
+}
@@ -0,0 +1,45 @@
+package com.bank.loanpricing.kafka;
+
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.model.OutboxEvent;
+
+import java.time.Instant;
+
+// Payload published to the loan-events topic, keyed by loanId.
+// eventId is stable across relay retries so consumers can de-duplicate.
+// createdBy is the loan owner, used to route the event to that user's live stream.
+// deleted marks a soft delete, which leaves the status unchanged.
+// loan is the loan's state when the relay published the event (see Snapshot).
+public record LoanEvent(String eventId,
+                        String loanId,
+                        String createdBy,
+                        LoanStatus previousStatus,
+                        LoanStatus status,
+                        String actionBy,
+                        Instant occurredAt,
+                        boolean deleted,
+                        Snapshot loan) {
+
+    public static LoanEvent from(Loan loan, OutboxEvent pending) {
+        return new LoanEvent(pending.getEventId(), loan.getId(), loan.getCreatedBy(),
+                pending.getPreviousStatus(), pending.getStatus(), pending.getActionBy(), pending.getOccurredAt(),
+                pending.isDeleted(), Snapshot.of(loan));
+    }
+
+    // The fields the stats projection needs, read when the event is relayed rather than
+    // when it was written, so it may already include later changes; version orders them.
+    public record Snapshot(LoanType loanType,
+                           LoanStatus status,
+                           double requestedAmount,
+                           Double sanctionedAmount,
+                           boolean deleted,
+                           long version) {
+
+        static Snapshot of(Loan loan) {
+            return new Snapshot(loan.getLoanType(), loan.getStatus(), loan.getRequestedAmount(),
+                    loan.getSanctionedAmount(), loan.isDeleted(), loan.getVersion() != null ? loan.getVersion() : 0L);
+        }
+    }
+}
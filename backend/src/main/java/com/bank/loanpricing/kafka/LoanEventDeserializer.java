@@ -0,0 +1,31 @@
+package com.bank.loanpricing.kafka;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+
+import java.io.IOException;
+
+/**
+ * Kafka value deserializer for {@link LoanEvent}, the counterpart of
+ * {@link LoanEventSerializer}. The reader is built once and shared.
+ */
+public class LoanEventDeserializer implements Deserializer<LoanEvent> {
+
+    private static final ObjectReader READER = new ObjectMapper()
+            .findAndRegisterModules()
+            .readerFor(LoanEvent.class);
+
+    @Override
+    public LoanEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        try {
+            return READER.readValue(data);
+        } catch (IOException e) {
+            throw new SerializationException("Failed to deserialize loan event from " + topic, e);
+        }
+    }
+}
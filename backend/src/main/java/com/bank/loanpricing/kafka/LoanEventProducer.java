@@ -1,18 +1,77 @@
 package com.bank.loanpricing.kafka;
 
-import lombok.RequiredArgsConstructor;
+import com.bank.loanpricing.tracing.TraceContextCarrier;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.tracing.Span;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class LoanEventProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
     private static final String TOPIC = "loan-events";
 
-    public void publishEvent(String message) {
-        kafkaTemplate.send(TOPIC, message);
-        System.out.println("Kafka event published: " + message);
+    private final KafkaTemplate<String, LoanEvent> kafkaTemplate;
+    private final TraceContextCarrier traceContextCarrier;
+
+    public LoanEventProducer(KafkaTemplate<String, LoanEvent> kafkaTemplate, TraceContextCarrier traceContextCarrier) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.traceContextCarrier = traceContextCarrier;
+    }
+
+    public CompletableFuture<SendResult<String, LoanEvent>> publishEvent(LoanEvent event) {
+        return publishEvent(event, null);
+    }
+
+    // Keyed by loanId so all events of one loan land on the same partition, in order.
+    // Completion is handled on the producer I/O thread; callers decide whether to wait.
+    // The send span continues traceContext (captured when the event was written to the
+    // outbox) and its own context travels in the record headers to the consumer.
+    public CompletableFuture<SendResult<String, LoanEvent>> publishEvent(LoanEvent event,
+                                                                         @Nullable Map<String, String> traceContext) {
+        long start = System.nanoTime();
+        Span span = traceContextCarrier.startSpan("loan-events send", Span.Kind.PRODUCER, traceContext)
+                .tag("messaging.system", "kafka")
+                .tag("messaging.destination.name", TOPIC)
+                .tag("loan.id", String.valueOf(event.loanId()))
+                .tag("loan.status", String.valueOf(event.status()));
+        try {
+            ProducerRecord<String, LoanEvent> record = new ProducerRecord<>(TOPIC, event.loanId(), event);
+            traceContextCarrier.inject(span, record.headers());
+
+            return kafkaTemplate.send(record)
+                    .whenComplete((result, ex) -> {
+                        record(event, ex == null ? "success" : "failure", start);
+                        if (ex != null) {
+                            span.error(ex);
+                            log.error("Failed to publish loan event for loan {}: {}", event.loanId(), ex.getMessage());
+                        }
+                        span.end();
+                    });
+        } catch (Exception e) {
+            // send() itself can fail fast (e.g. metadata unavailable within max.block.ms)
+            record(event, "failure", start);
+            span.error(e);
+            span.end();
+            log.error("Failed to publish loan event for loan {}: {}", event.loanId(), e.getMessage());
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // Send latency runs from send() to broker ack, so it includes linger and batching
+    private static void record(LoanEvent event, String result, long start) {
+        String status = event.status() != null ? event.status().name() : "none";
+        Metrics.counter("loan.events.published", "result", result, "status", status).increment();
+        Metrics.timer("loan.events.send.latency", "result", result, "status", status)
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
     }
 }
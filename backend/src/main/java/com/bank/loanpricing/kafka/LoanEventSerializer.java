@@ -0,0 +1,32 @@
+package com.bank.loanpricing.kafka;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka value serializer for {@link LoanEvent}. The writer is built once and shared;
+ * Jackson writers are immutable and thread-safe.
+ */
+public class LoanEventSerializer implements Serializer<LoanEvent> {
+
+    private static final ObjectWriter WRITER = new ObjectMapper()
+            .findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .writerFor(LoanEvent.class);
+
+    @Override
+    public byte[] serialize(String topic, LoanEvent event) {
+        if (event == null) {
+            return null;
+        }
+        try {
+            return WRITER.writeValueAsBytes(event);
+        } catch (JsonProcessingException e) {
+            throw new SerializationException("Failed to serialize loan event " + event.loanId(), e);
+        }
+    }
+}
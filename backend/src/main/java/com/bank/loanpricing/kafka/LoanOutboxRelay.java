@@ -0,0 +1,121 @@
+package com.bank.loanpricing.kafka;
+
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.OutboxEvent;
+import com.bank.loanpricing.repository.LoanRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drains loan outbox entries to the loan-events topic in the background.
+ * An entry is removed only after Kafka acknowledged it, so delivery is
+ * at-least-once; failed sends stay in the outbox and are retried next run.
+ * <p>
+ * Events go out in rounds: round n sends the n-th pending event of every loan
+ * and waits for those acks, so a loan's next event is only sent once the previous
+ * one is on the topic and its events never overtake each other.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoanOutboxRelay {
+
+    // Headroom over the producer's delivery timeout before an unanswered send is given up
+    private static final long ACK_WAIT_MARGIN_MS = 1000;
+
+    private final LoanRepository loanRepository;
+    private final LoanEventProducer loanEventProducer;
+
+    @Value("${outbox.relay.batch-size:200}")
+    private int batchSize;
+
+    // A send is only known to have failed once the producer stops retrying it; waiting
+    // any less would leave it in flight while the next run sends it again
+    @Value("${spring.kafka.producer.properties.delivery.timeout.ms:20000}")
+    private long deliveryTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        List<Loan> loans;
+        try {
+            loans = loanRepository.findWithPendingEvents(batchSize);
+        } catch (Exception e) {
+            log.warn("Outbox relay could not read pending events: {}", e.getMessage());
+            return;
+        }
+
+        if (loans.isEmpty()) {
+            return;
+        }
+
+        List<PendingLoan> remaining = new ArrayList<>();
+        for (Loan loan : loans) {
+            remaining.add(new PendingLoan(loan, loan.getOutbox().iterator(), new ArrayList<>()));
+        }
+        List<PendingLoan> relayed = List.copyOf(remaining);
+
+        boolean brokerReachable = true;
+        while (brokerReachable && !remaining.isEmpty()) {
+            // Send this round for every loan first so the producer can pack it, then wait once
+            List<Sent> round = new ArrayList<>();
+            for (PendingLoan pendingLoan : remaining) {
+                if (!pendingLoan.events().hasNext()) {
+                    continue;
+                }
+                OutboxEvent pending = pendingLoan.events().next();
+                CompletableFuture<?> future = loanEventProducer.publishEvent(
+                        LoanEvent.from(pendingLoan.loan(), pending), pending.getTraceContext());
+                round.add(new Sent(pendingLoan, pending.getEventId(), future));
+
+                // send() itself failed (typically no metadata within max.block.ms): every
+                // further send would block as long again, so leave the rest for the next run
+                if (future.isCompletedExceptionally()) {
+                    brokerReachable = false;
+                    break;
+                }
+            }
+
+            remaining.clear();
+            for (Sent sent : round) {
+                if (awaitAck(sent.future())) {
+                    sent.pendingLoan().acknowledged().add(sent.eventId());
+                    remaining.add(sent.pendingLoan());
+                }
+                // otherwise the loan's later events wait until this one got through
+            }
+        }
+
+        for (PendingLoan pendingLoan : relayed) {
+            if (!pendingLoan.acknowledged().isEmpty()) {
+                loanRepository.removePendingEvents(pendingLoan.loan().getId(), pendingLoan.acknowledged());
+            }
+        }
+    }
+
+    private boolean awaitAck(CompletableFuture<?> future) {
+        try {
+            future.get(deliveryTimeoutMs + ACK_WAIT_MARGIN_MS, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false; // already logged and counted by LoanEventProducer
+        }
+    }
+
+    private record PendingLoan(Loan loan, Iterator<OutboxEvent> events, List<String> acknowledged) {
+    }
+
+    private record Sent(PendingLoan pendingLoan, String eventId, CompletableFuture<?> future) {
+    }
+}
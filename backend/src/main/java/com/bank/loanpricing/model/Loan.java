@@ -1,22 +1,35 @@
 package com.bank.loanpricing.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 import lombok.Data;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
 
 @Data
 @Document(collection = "loans")
+// Keyset scrolling (see LoanRepositoryImpl.findPageAfter)
+@CompoundIndex(name = "createdAt_id_idx", def = "{'createdAt': -1, '_id': -1}")
+// Status-filtered scrolling: equality on status, then the seek/sort keys in order
+@CompoundIndex(name = "status_createdAt_id_idx", def = "{'status': 1, 'createdAt': -1, '_id': -1}")
+// Lets the outbox relay find loans with unpublished events without a scan
+@CompoundIndex(name = "outbox_pending_idx", def = "{'outbox.eventId': 1}", sparse = true)
 public class Loan {
 
     @Id
     private String id;
 
+    // Optimistic locking for full-document saves
+    @Version
+    private Long version;
+
     @NotBlank
     private String clientName;
 
@@ -44,6 +57,7 @@ public class Loan {
     private Double approvedInterestRate;
 
     // Audit fields
+    @Indexed
     private String createdBy;
     private String updatedBy;
     private String approvedBy;
@@ -54,8 +68,12 @@ public class Loan {
     // Rejection info
     private String rejectionReason;
 
-    // Audit trail
-    private List<LoanAction> actions = new ArrayList<>();
+    // Audit trail is stored separately in loan_actions (see LoanAction)
+
+    // Transactional outbox: events are pushed in the same write as the status change
+    // and removed by LoanOutboxRelay once Kafka has acknowledged them
+    @JsonIgnore
+    private List<OutboxEvent> outbox;
 
     // Soft delete
     private boolean deleted = false;
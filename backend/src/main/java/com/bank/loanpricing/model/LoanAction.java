@@ -1,11 +1,22 @@
 package com.bank.loanpricing.model;
 
 import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
 import java.time.Instant;
 
+// Append-only audit trail, one document per action
 @Data
+@Document(collection = "loan_actions")
+@CompoundIndex(name = "loan_timestamp_idx", def = "{'loanId': 1, 'timestamp': -1}")
 public class LoanAction {
 
+    @Id
+    private String id;
+
+    private String loanId;
     private String by;        // userId
     private String action;    // CREATED, SUBMITTED, APPROVED, REJECTED
     private String comments;
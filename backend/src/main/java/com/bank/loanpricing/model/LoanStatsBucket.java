@@ -0,0 +1,19 @@
+package com.bank.loanpricing.model;
+
+import lombok.Data;
+
+// One row of the stats aggregation (see LoanStatsEntryRepositoryImpl.aggregateStats):
+// totals for the non-deleted loans of one (createdBy, loanType, status) combination
+@Data
+public class LoanStatsBucket {
+
+    private String createdBy;
+    private LoanType loanType;
+    private LoanStatus status;
+
+    private long count;
+    private double requestedAmount;
+
+    // Only APPROVED loans contribute; an UNDER_REVIEW sanction is not final yet
+    private double sanctionedAmount;
+}
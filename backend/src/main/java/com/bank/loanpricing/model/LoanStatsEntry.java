@@ -0,0 +1,26 @@
+package com.bank.loanpricing.model;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+// Read model maintained by LoanEventConsumer: the stats-relevant fields of one loan,
+// as of the newest event seen for it. The dashboard totals are aggregated from here
+// (see LoanStatsEntryRepositoryImpl.aggregateStats), never from the loans collection.
+@Data
+@Document(collection = "loan_stats")
+public class LoanStatsEntry {
+
+    @Id
+    private String loanId;
+
+    private String createdBy;
+    private LoanType loanType;
+    private LoanStatus status;
+    private double requestedAmount;
+    private Double sanctionedAmount;
+    private boolean deleted;
+
+    // Loan version the fields were read at; an older snapshot never overwrites a newer one
+    private long version;
+}
@@ -0,0 +1,40 @@
+package com.bank.loanpricing.model;
+
+import lombok.Data;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+// Pending loan event, embedded in the loan until the outbox relay has published it
+@Data
+public class OutboxEvent {
+
+    private String eventId;
+    private LoanStatus previousStatus; // null for a newly created loan
+    private LoanStatus status;
+    private String actionBy;
+    private Instant occurredAt;
+
+    // Soft delete: previousStatus and status are both the status the loan was deleted in
+    private boolean deleted;
+
+    // Propagation headers of the request that caused it, so the consumer joins that trace
+    private Map<String, String> traceContext;
+
+    public static OutboxEvent of(LoanStatus previousStatus, LoanStatus status, String actionBy) {
+        OutboxEvent event = new OutboxEvent();
+        event.setEventId(UUID.randomUUID().toString());
+        event.setPreviousStatus(previousStatus);
+        event.setStatus(status);
+        event.setActionBy(actionBy);
+        event.setOccurredAt(Instant.now());
+        return event;
+    }
+
+    public static OutboxEvent deletedIn(LoanStatus status, String actionBy) {
+        OutboxEvent event = of(status, status, actionBy);
+        event.setDeleted(true);
+        return event;
+    }
+}
@@ -2,6 +2,7 @@ package com.bank.loanpricing.model;
 
 import lombok.*;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.Instant;
@@ -16,6 +17,7 @@ public class User {
     @Id
     private String id;
 
+    @Indexed(unique = true)
     private String email;
     private String password;   // BCrypt hashed
     private Role role;
@@ -0,0 +1,23 @@
+package com.bank.loanpricing.pricing;
+
+/**
+ * Level-payment annuity formulas shared by amortizing pricing and EMI schedules.
+ */
+public final class Annuity {
+
+    private Annuity() {
+    }
+
+    public static double monthlyRate(double annualRatePercent) {
+        return annualRatePercent / 100 / 12;
+    }
+
+    // Closed-form EMI: P·r·(1+r)^n / ((1+r)^n − 1), or P/n at zero rate
+    public static double emi(double principal, double monthlyRate, int months) {
+        if (monthlyRate == 0) {
+            return principal / months;
+        }
+        double growth = Math.pow(1 + monthlyRate, months);
+        return principal * monthlyRate * growth / (growth - 1);
+    }
+}
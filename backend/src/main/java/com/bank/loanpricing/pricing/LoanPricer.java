@@ -0,0 +1,107 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Prices loans with the {@link PricingStrategy} for their type, at the proposed
+ * rate plus the risk spread from the current {@link SpreadGrid}. Strategies are
+ * held in an array indexed by {@link LoanType#ordinal()}.
+ */
+@Component
+public class LoanPricer {
+
+    // Below this, fork/join overhead costs more than the arithmetic it splits
+    static final int PARALLEL_THRESHOLD = 2_048;
+
+    private final SpreadGridRegistry spreadGrids;
+    private final PricingStrategy[] strategies = new PricingStrategy[LoanType.values().length];
+
+    public LoanPricer(SpreadGridRegistry spreadGrids, List<PricingStrategy> strategies) {
+        this.spreadGrids = spreadGrids;
+
+        for (PricingStrategy strategy : strategies) {
+            int slot = strategy.loanType().ordinal();
+            if (this.strategies[slot] != null) {
+                throw new IllegalStateException("Duplicate pricing strategy for " + strategy.loanType());
+            }
+            this.strategies[slot] = strategy;
+        }
+        for (LoanType type : LoanType.values()) {
+            if (this.strategies[type.ordinal()] == null) {
+                throw new IllegalStateException("No pricing strategy for " + type);
+            }
+        }
+    }
+
+    public double price(Loan loan) {
+        if (loan.getLoanType() == null) {
+            throw new BusinessException("Loan type is required for pricing");
+        }
+        String rating = loan.getFinancials() != null ? loan.getFinancials().getRating() : null;
+
+        return price(spreadGrids.current(), loan.getLoanType(), rating,
+                loan.getRequestedAmount(), loan.getProposedInterestRate(), loan.getTenureMonths());
+    }
+
+    /**
+     * Prices the first {@code count} entries of the input arrays into {@code prices}
+     * against one grid snapshot. Large batches are split over the common pool; a
+     * null type yields {@code NaN}.
+     */
+    public void priceAll(LoanType[] types, String[] ratings, double[] principals, double[] ratePercents,
+                         int[] tenureMonths, double[] prices, int count) {
+
+        SpreadGrid grid = spreadGrids.current();
+
+        IntStream indexes = IntStream.range(0, count);
+        if (count >= PARALLEL_THRESHOLD) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> prices[i] = types[i] == null
+                ? Double.NaN
+                : price(grid, types[i], ratings[i], principals[i], ratePercents[i], tenureMonths[i]));
+    }
+
+    /**
+     * Prices every amount × tenure × rate combination for one type and rating into
+     * a flat amount-major array. Spreads depend only on tenure here, so they are
+     * looked up once per tenure and the inner loop is plain arithmetic.
+     */
+    public double[] priceGrid(LoanType type, String rating, double[] amounts, int[] tenures, double[] rates) {
+        SpreadGrid grid = spreadGrids.current();
+        PricingStrategy strategy = strategies[type.ordinal()];
+        int ratingIndex = grid.ratingIndex(rating);
+
+        double[] spreads = new double[tenures.length];
+        for (int t = 0; t < tenures.length; t++) {
+            spreads[t] = grid.spread(type, ratingIndex, tenures[t]);
+        }
+
+        double[] prices = new double[amounts.length * tenures.length * rates.length];
+        int cell = 0;
+        for (double amount : amounts) {
+            for (int t = 0; t < tenures.length; t++) {
+                int tenure = tenures[t];
+                double spread = spreads[t];
+                for (double rate : rates) {
+                    prices[cell++] = Math.round(strategy.price(amount, rate + spread, tenure) * 100.0) / 100.0;
+                }
+            }
+        }
+        return prices;
+    }
+
+    private double price(SpreadGrid grid, LoanType type, String rating,
+                         double principal, double ratePercent, int tenureMonths) {
+
+        double rate = ratePercent + grid.spread(type, rating, tenureMonths);
+        double price = strategies[type.ordinal()].price(principal, rate, tenureMonths);
+        return Math.round(price * 100.0) / 100.0;
+    }
+}
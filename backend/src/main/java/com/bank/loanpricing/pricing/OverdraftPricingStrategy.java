@@ -0,0 +1,19 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.LoanType;
+import org.springframework.stereotype.Component;
+
+// Interest is debited to the account monthly, so it compounds on the drawn limit
+@Component
+public class OverdraftPricingStrategy implements PricingStrategy {
+
+    @Override
+    public LoanType loanType() {
+        return LoanType.OVERDRAFT;
+    }
+
+    @Override
+    public double price(double principal, double annualRatePercent, int tenureMonths) {
+        return principal * Math.pow(1 + Annuity.monthlyRate(annualRatePercent), tenureMonths);
+    }
+}
@@ -0,0 +1,112 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Memoizes price results. Results are keyed by a 64-bit hash of the pricing
+ * inputs (amount, rate, tenure, type, rating), and a loan id remembers the key it
+ * was last priced under together with the loan's {@code @Version}.
+ *
+ * <p>A result is only reused if it was priced against the spread grid that is
+ * live now, so a grid reload retires old entries without a flush. The per-loan
+ * shortcut is only trusted while the stored version is unchanged; every write to
+ * a loan bumps it, so updates made by any instance retire the shortcut at once.
+ * Hit/miss counts are published as {@code cache.*{cache=loan.price}} metrics.
+ */
+@Component
+public class PriceCache {
+
+    private record Entry(LoanType type, String rating, double amount, double rate, int tenure,
+                         SpreadGrid grid, double price) {
+
+        boolean matches(LoanType type, String rating, double amount, double rate, int tenure) {
+            return this.type == type
+                    && Objects.equals(this.rating, rating)
+                    && this.amount == amount
+                    && this.rate == rate
+                    && this.tenure == tenure;
+        }
+    }
+
+    private record LoanKey(long version, long key) {
+    }
+
+    private final SpreadGridRegistry spreadGrids;
+    private final Cache<Long, Entry> results;
+    private final Cache<String, LoanKey> loanKeys;
+
+    public PriceCache(SpreadGridRegistry spreadGrids,
+                      @Value("${pricing.cache.max-size:10000}") long maxSize,
+                      @Value("${pricing.cache.ttl-seconds:600}") long ttlSeconds) {
+        this.spreadGrids = spreadGrids;
+        this.results = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.loanKeys = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, results, "loan.price");
+    }
+
+    // Price last computed for this loan, if the loan is still at that version and still cached
+    public Double getForLoan(String loanId, Long version) {
+        LoanKey loanKey = version != null ? loanKeys.getIfPresent(loanId) : null;
+        if (loanKey == null || loanKey.version() != version) {
+            return null;
+        }
+        Entry entry = results.getIfPresent(loanKey.key());
+        return entry != null && entry.grid() == spreadGrids.current() ? entry.price() : null;
+    }
+
+    public double get(Loan loan, ToDoubleFunction<Loan> pricer) {
+        LoanType type = loan.getLoanType();
+        String rating = loan.getFinancials() != null ? loan.getFinancials().getRating() : null;
+        double amount = loan.getRequestedAmount();
+        double rate = loan.getProposedInterestRate();
+        int tenure = loan.getTenureMonths();
+
+        long key = key(type, rating, amount, rate, tenure);
+        SpreadGrid grid = spreadGrids.current();
+
+        Entry entry = results.getIfPresent(key);
+        if (entry == null || entry.grid() != grid || !entry.matches(type, rating, amount, rate, tenure)) {
+            entry = new Entry(type, rating, amount, rate, tenure, grid, pricer.applyAsDouble(loan));
+            results.put(key, entry);
+        }
+
+        if (loan.getId() != null && loan.getVersion() != null) {
+            loanKeys.put(loan.getId(), new LoanKey(loan.getVersion(), key));
+        }
+        return entry.price();
+    }
+
+    static long key(LoanType type, String rating, double amount, double rate, int tenure) {
+        long h = Double.doubleToLongBits(amount);
+        h = h * 31 + Double.doubleToLongBits(rate);
+        h = h * 31 + tenure;
+        h = h * 31 + (type != null ? type.ordinal() + 1 : 0);
+        h = h * 31 + (rating != null ? rating.hashCode() : 0);
+        // Final avalanche (murmur3 fmix64) so nearby inputs spread across the key space
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.LoanType;
+
+/**
+ * Prices one {@link LoanType}. Implementations are stateless Spring beans picked
+ * up by {@link LoanPricer}; exactly one must exist per loan type.
+ */
+public interface PricingStrategy {
+
+    LoanType loanType();
+
+    /**
+     * Total repayable over the tenure, unrounded. {@code annualRatePercent} is the
+     * proposed rate with the risk spread already added.
+     */
+    double price(double principal, double annualRatePercent, int tenureMonths);
+}
@@ -0,0 +1,19 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.LoanType;
+import org.springframework.stereotype.Component;
+
+// Amortizing: the sum of equal monthly instalments
+@Component
+public class SmeLoanPricingStrategy implements PricingStrategy {
+
+    @Override
+    public LoanType loanType() {
+        return LoanType.SME_LOAN;
+    }
+
+    @Override
+    public double price(double principal, double annualRatePercent, int tenureMonths) {
+        return Annuity.emi(principal, Annuity.monthlyRate(annualRatePercent), tenureMonths) * tenureMonths;
+    }
+}
@@ -0,0 +1,168 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.LoanType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable rating × tenure × loan-type risk-spread table, in percentage points.
+ * Everything is resolved to array offsets when the file is parsed, so a lookup is
+ * a short scan of the rating codes plus two array reads.
+ *
+ * <p>File format (CSV, {@code #} comments allowed):
+ * <pre>
+ * tenure,12,36,60,120,360          # bucket upper bounds in months, ascending
+ * TERM_LOAN,A,0.50,0.75,1.00,...   # one spread per bucket
+ * </pre>
+ * Every loan type must list the same ratings, including {@value #UNRATED} which
+ * is used for missing or unknown ratings. Tenures past the last bound use the
+ * last bucket.
+ */
+public final class SpreadGrid {
+
+    public static final String UNRATED = "NR";
+
+    private static final int TYPES = LoanType.values().length;
+
+    private final String[] ratings;
+    private final int unratedIndex;
+    private final int bucketCount;
+    // tenure in months -> bucket, up to the last bound
+    private final int[] tenureBuckets;
+    // [type][rating][bucket], flattened
+    private final double[] spreads;
+
+    private SpreadGrid(String[] ratings, int[] bounds, double[] spreads) {
+        this.ratings = ratings;
+        this.unratedIndex = Arrays.asList(ratings).indexOf(UNRATED);
+        this.bucketCount = bounds.length;
+        this.spreads = spreads;
+
+        int maxTenure = bounds[bounds.length - 1];
+        this.tenureBuckets = new int[maxTenure + 1];
+        for (int months = 0, bucket = 0; months <= maxTenure; months++) {
+            if (months > bounds[bucket]) {
+                bucket++;
+            }
+            tenureBuckets[months] = bucket;
+        }
+    }
+
+    public int ratingIndex(String rating) {
+        if (rating != null) {
+            String code = rating.trim();
+            for (int i = 0; i < ratings.length; i++) {
+                if (ratings[i].equalsIgnoreCase(code)) {
+                    return i;
+                }
+            }
+        }
+        return unratedIndex;
+    }
+
+    public double spread(LoanType type, int ratingIndex, int tenureMonths) {
+        int months = Math.min(Math.max(tenureMonths, 0), tenureBuckets.length - 1);
+        return spreads[(type.ordinal() * ratings.length + ratingIndex) * bucketCount + tenureBuckets[months]];
+    }
+
+    public double spread(LoanType type, String rating, int tenureMonths) {
+        return spread(type, ratingIndex(rating), tenureMonths);
+    }
+
+    /**
+     * Parses and validates a complete grid. Throws {@link IllegalArgumentException}
+     * if the file is malformed or leaves any type/rating combination undefined.
+     */
+    public static SpreadGrid parse(BufferedReader reader) throws IOException {
+        int[] bounds = null;
+        List<String> ratings = new ArrayList<>();
+        List<String[]> rows = new ArrayList<>();
+
+        String line;
+        int lineNo = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            int comment = line.indexOf('#');
+            String content = (comment >= 0 ? line.substring(0, comment) : line).trim();
+            if (content.isEmpty()) {
+                continue;
+            }
+
+            String[] cells = content.split("\\s*,\\s*");
+            if (bounds == null) {
+                bounds = parseBounds(cells, lineNo);
+                continue;
+            }
+            if (cells.length != bounds.length + 2) {
+                throw new IllegalArgumentException("Line " + lineNo + ": expected "
+                        + (bounds.length + 2) + " columns but found " + cells.length);
+            }
+
+            String rating = cells[1].toUpperCase(Locale.ROOT);
+            if (!ratings.contains(rating)) {
+                ratings.add(rating);
+            }
+            cells[1] = rating;
+            rows.add(cells);
+        }
+
+        if (bounds == null) {
+            throw new IllegalArgumentException("Spread grid has no tenure header");
+        }
+        if (!ratings.contains(UNRATED)) {
+            throw new IllegalArgumentException("Spread grid must define rating " + UNRATED);
+        }
+
+        int ratingCount = ratings.size();
+        double[] spreads = new double[TYPES * ratingCount * bounds.length];
+        boolean[] defined = new boolean[TYPES * ratingCount];
+
+        for (String[] cells : rows) {
+            LoanType type;
+            try {
+                type = LoanType.valueOf(cells[0].toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown loan type " + cells[0]);
+            }
+
+            int row = type.ordinal() * ratingCount + ratings.indexOf(cells[1]);
+            if (defined[row]) {
+                throw new IllegalArgumentException("Duplicate spreads for " + type + "/" + cells[1]);
+            }
+            defined[row] = true;
+
+            for (int b = 0; b < bounds.length; b++) {
+                spreads[row * bounds.length + b] = Double.parseDouble(cells[b + 2]);
+            }
+        }
+
+        for (int row = 0; row < defined.length; row++) {
+            if (!defined[row]) {
+                throw new IllegalArgumentException("Missing spreads for "
+                        + LoanType.values()[row / ratingCount] + "/" + ratings.get(row % ratingCount));
+            }
+        }
+
+        return new SpreadGrid(ratings.toArray(String[]::new), bounds, spreads);
+    }
+
+    private static int[] parseBounds(String[] cells, int lineNo) {
+        if (!"tenure".equalsIgnoreCase(cells[0]) || cells.length < 2) {
+            throw new IllegalArgumentException("Line " + lineNo + ": expected 'tenure,<bound>,...' header");
+        }
+
+        int[] bounds = new int[cells.length - 1];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = Integer.parseInt(cells[i + 1]);
+            if (bounds[i] < 0 || (i > 0 && bounds[i] <= bounds[i - 1])) {
+                throw new IllegalArgumentException("Line " + lineNo + ": tenure bounds must ascend");
+            }
+        }
+        return bounds;
+    }
+}
@@ -0,0 +1,87 @@
+package com.bank.loanpricing.pricing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Holds the live {@link SpreadGrid}. The grid is loaded at startup (an invalid
+ * file fails the boot) and polled for changes afterwards. It is read from an
+ * external file; while that file does not exist the grid bundled in the jar is
+ * used, and the file is picked up as soon as it appears. A changed file is parsed
+ * off to the side and swapped in with a single volatile write, so pricing threads
+ * never block and always see either the old grid or the new one. A bad edit is
+ * logged and the previous grid stays in force.
+ */
+@Slf4j
+@Component
+public class SpreadGridRegistry {
+
+    private final Resource location;
+    private final Resource fallback;
+
+    private volatile SpreadGrid current;
+    private long lastModified;
+
+    public SpreadGridRegistry(
+            @Value("${pricing.spread-grid.location:file:config/pricing/spread-grid.csv}") Resource location,
+            @Value("${pricing.spread-grid.fallback-location:classpath:pricing/spread-grid.csv}") Resource fallback) {
+        this.location = location;
+        this.fallback = fallback;
+        this.lastModified = lastModified();
+        try {
+            this.current = load();
+        } catch (IOException | RuntimeException e) {
+            throw new IllegalStateException("Could not load spread grid from " + source(), e);
+        }
+    }
+
+    public SpreadGrid current() {
+        return current;
+    }
+
+    @Scheduled(fixedDelayString = "${pricing.spread-grid.reload-interval-ms:30000}")
+    public void reloadIfChanged() {
+        long modified = lastModified();
+        if (modified == lastModified) {
+            return;
+        }
+        // Recorded even if parsing fails, so a broken file is reported once, not every poll
+        lastModified = modified;
+
+        try {
+            current = load();
+            log.info("✅ Reloaded spread grid from {}", source());
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ Spread grid reload failed, keeping previous grid: {}", e.getMessage());
+        }
+    }
+
+    private SpreadGrid load() throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(source().getInputStream(), StandardCharsets.UTF_8))) {
+            return SpreadGrid.parse(reader);
+        }
+    }
+
+    private Resource source() {
+        return location.exists() ? location : fallback;
+    }
+
+    // 0 while the file is missing, so creating (or deleting) it counts as a change;
+    // the fallback inside the jar has no timestamp of its own
+    private long lastModified() {
+        try {
+            return location.lastModified();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+}
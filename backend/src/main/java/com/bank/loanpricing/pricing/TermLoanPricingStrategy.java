@@ -0,0 +1,20 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.LoanType;
+import org.springframework.stereotype.Component;
+
+// Amortizing: the sum of equal monthly instalments, the same EMI model as the
+// repayment schedule (see AmortizationService); SME loans differ only by their spread
+@Component
+public class TermLoanPricingStrategy implements PricingStrategy {
+
+    @Override
+    public LoanType loanType() {
+        return LoanType.TERM_LOAN;
+    }
+
+    @Override
+    public double price(double principal, double annualRatePercent, int tenureMonths) {
+        return Annuity.emi(principal, Annuity.monthlyRate(annualRatePercent), tenureMonths) * tenureMonths;
+    }
+}
@@ -0,0 +1,22 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.LoanType;
+import org.springframework.stereotype.Component;
+
+// Limits are sanctioned for a year and renewed, so one annual cycle is priced
+@Component
+public class WorkingCapitalPricingStrategy implements PricingStrategy {
+
+    private static final int RENEWAL_CYCLE_MONTHS = 12;
+
+    @Override
+    public LoanType loanType() {
+        return LoanType.WORKING_CAPITAL;
+    }
+
+    @Override
+    public double price(double principal, double annualRatePercent, int tenureMonths) {
+        double cycleYears = Math.min(tenureMonths, RENEWAL_CYCLE_MONTHS) / 12.0;
+        return principal + (principal * annualRatePercent / 100 * cycleYears);
+    }
+}
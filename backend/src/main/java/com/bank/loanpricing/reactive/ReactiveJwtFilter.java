@@ -0,0 +1,72 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.security.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+/**
+ * JwtFilter for the reactive stack. Claims are verified with the shared JwtUtil
+ * (and its claims cache); the principal lookup is non-blocking. The authentication
+ * travels in the Reactor context rather than a thread-local. A missing, invalid or
+ * expired token, or an unknown user, leaves the request unauthenticated for the
+ * security chain to reject.
+ *
+ * <p>Not a bean: WebFlux would also register it as a global filter. It is added to
+ * the security chain in ReactiveSecurityConfig.
+ */
+class ReactiveJwtFilter implements WebFilter {
+
+    private static final String BEARER = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+    private final ReactiveUserDetailsService userDetailsService;
+
+    ReactiveJwtFilter(JwtUtil jwtUtil, ReactiveUserDetailsService userDetailsService) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        // Skip preflight
+        if (HttpMethod.OPTIONS.equals(exchange.getRequest().getMethod())) {
+            return chain.filter(exchange);
+        }
+
+        String authHeader = exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (authHeader == null || !authHeader.startsWith(BEARER)) {
+            return chain.filter(exchange);
+        }
+
+        Claims claims;
+        try {
+            claims = jwtUtil.parseClaims(authHeader.substring(BEARER.length()));
+        } catch (JwtException | IllegalArgumentException e) {
+            return chain.filter(exchange);
+        }
+        String userId = claims.get("userId", String.class);
+
+        return userDetailsService.findByUsername(claims.getSubject())
+                .map(userDetails -> ReactiveSecurityContextHolder.withAuthentication(authentication(userDetails, userId)))
+                .defaultIfEmpty(Context.empty())
+                .flatMap(context -> chain.filter(exchange).contextWrite(context));
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication(UserDetails userDetails, String userId) {
+        UsernamePasswordAuthenticationToken authToken =
+                new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+        authToken.setDetails(userId);
+        return authToken;
+    }
+}
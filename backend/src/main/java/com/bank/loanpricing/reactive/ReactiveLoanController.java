@@ -0,0 +1,90 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of the read endpoints in LoanController. The JSON
+ * listings return the same page shape as the servlet app; asking for
+ * {@code application/x-ndjson} streams the rows instead, one per line, pulled from
+ * the Mongo cursor only as fast as the client reads them.
+ */
+@RestController
+@RequestMapping("/api/loans")
+@RequiredArgsConstructor
+@Profile(ReactiveReadApplication.PROFILE)
+public class ReactiveLoanController {
+
+    private final ReactiveLoanRepository loanRepository;
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public Mono<Loan> getLoanById(@PathVariable String id) {
+        return loanRepository.findById(id)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "Loan not found")));
+    }
+
+    // ---------------- PAGES ----------------
+    @GetMapping(value = "/paginated", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public Mono<Page<LoanResponse>> getLoansPaginated(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        return toPage(loanRepository.findSummariesBy(pageable), loanRepository.count(), pageable);
+    }
+
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public Mono<Page<LoanResponse>> getLoansByStatus(
+            @PathVariable LoanStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        Pageable pageable = PageRequest.of(page, size);
+        return toPage(loanRepository.findSummariesByStatus(status, pageable),
+                loanRepository.countByStatus(status), pageable);
+    }
+
+    // ---------------- STREAMS ----------------
+    // Same rows without the total count; demand from the client paces the Mongo cursor
+    @GetMapping(value = "/paginated", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public Flux<LoanResponse> streamLoans(
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return loanRepository.findSummariesBy(PageRequest.of(page, size));
+    }
+
+    @GetMapping(value = "/status/{status}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasAnyRole('USER','ADMIN')")
+    public Flux<LoanResponse> streamLoansByStatus(
+            @PathVariable LoanStatus status,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+
+        return loanRepository.findSummariesByStatus(status, PageRequest.of(page, size));
+    }
+
+    // The rows and the count are separate Mongo commands; run them concurrently
+    private static Mono<Page<LoanResponse>> toPage(Flux<LoanResponse> rows, Mono<Long> total, Pageable pageable) {
+        return Mono.zip(rows.collectList(), total)
+                .map(pair -> new PageImpl<>(pair.getT1(), pageable, pair.getT2()));
+    }
+}
@@ -0,0 +1,23 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import org.springframework.lang.NonNull;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Reactive twin of LoanRepository's read side; rows are projected onto LoanResponse in Mongo
+public interface ReactiveLoanRepository extends ReactiveMongoRepository<Loan, String> {
+
+    @NonNull
+    Flux<LoanResponse> findSummariesBy(@NonNull Pageable pageable);
+
+    @NonNull
+    Flux<LoanResponse> findSummariesByStatus(@NonNull LoanStatus status, @NonNull Pageable pageable);
+
+    @NonNull
+    Mono<Long> countByStatus(@NonNull LoanStatus status);
+}
@@ -0,0 +1,53 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.model.User;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.security.core.userdetails.ReactiveUserDetailsService;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * Reactive counterpart of CustomUserDetailsService, with the same short-lived
+ * principal cache. Concurrent requests for an uncached user share one Mongo
+ * lookup; unknown and inactive users come back empty and are not cached.
+ */
+@Service
+@Profile(ReactiveReadApplication.PROFILE)
+public class ReactivePrincipalService implements ReactiveUserDetailsService {
+
+    private final ReactiveUserRepository userRepository;
+    private final AsyncCache<String, UserDetails> principalCache;
+
+    public ReactivePrincipalService(ReactiveUserRepository userRepository,
+                                    @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                                    @Value("${security.principal-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.principalCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .buildAsync();
+    }
+
+    @Override
+    public Mono<UserDetails> findByUsername(String email) {
+        return Mono.fromFuture(() -> principalCache.get(email, (key, executor) ->
+                userRepository.findByEmail(key)
+                        .filter(User::isActive)
+                        .map(ReactivePrincipalService::toUserDetails)
+                        .toFuture()));
+    }
+
+    private static UserDetails toUserDetails(User user) {
+        return org.springframework.security.core.userdetails.User
+                .withUsername(user.getEmail())
+                .password(user.getPassword())
+                .roles(user.getRole().name())
+                .build();
+    }
+}
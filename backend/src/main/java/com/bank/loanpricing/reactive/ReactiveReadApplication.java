@@ -0,0 +1,37 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.security.JwtUtil;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Read-only, non-blocking variant of the loan API on WebFlux and reactive MongoDB:
+ * {@code GET /api/loans/{id}}, {@code /api/loans/paginated},
+ * {@code /api/loans/status/{status}} and {@code /api/users/me}. Open requests wait on
+ * Mongo without holding a thread, so a small pod can serve many slow clients.
+ *
+ * <p>Runs as its own process next to the servlet app (port 8082, profile
+ * {@value #PROFILE}); writes, pricing and Kafka stay on the servlet side. Every
+ * bean in this package is limited to that profile so the servlet app's component
+ * scan skips them. Launch with
+ * {@code mvn spring-boot:run -Dspring-boot.run.main-class=com.bank.loanpricing.reactive.ReactiveReadApplication}
+ * or, from the packaged jar,
+ * {@code java -cp app.jar -Dloader.main=com.bank.loanpricing.reactive.ReactiveReadApplication org.springframework.boot.loader.launch.PropertiesLauncher}.
+ */
+@SpringBootApplication
+@Import(JwtUtil.class)
+@Profile(ReactiveReadApplication.PROFILE)
+public class ReactiveReadApplication {
+
+    public static final String PROFILE = "reactive";
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveReadApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(PROFILE)
+                .run(args);
+    }
+}
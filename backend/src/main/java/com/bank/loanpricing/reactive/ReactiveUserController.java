@@ -0,0 +1,29 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.model.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/users")
+@RequiredArgsConstructor
+@Profile(ReactiveReadApplication.PROFILE)
+public class ReactiveUserController {
+
+    private final ReactiveUserRepository userRepository;
+
+    @GetMapping("/me")
+    public Mono<User> getLoggedInUser() {
+        return ReactiveSecurityContextHolder.getContext()
+                .map(context -> context.getAuthentication().getName())
+                .flatMap(userRepository::findByEmail)
+                .switchIfEmpty(Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, "User not found")));
+    }
+}
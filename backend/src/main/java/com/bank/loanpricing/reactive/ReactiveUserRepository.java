@@ -0,0 +1,10 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.model.User;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveUserRepository extends ReactiveMongoRepository<User, String> {
+
+    Mono<User> findByEmail(String email);
+}
@@ -0,0 +1,13 @@
+package com.bank.loanpricing.repository;
+
+import com.bank.loanpricing.model.LoanAction;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.lang.NonNull;
+
+public interface LoanActionRepository extends MongoRepository<LoanAction, String> {
+
+    @NonNull
+    Page<LoanAction> findByLoanIdOrderByTimestampDesc(@NonNull String loanId, @NonNull Pageable pageable);
+}
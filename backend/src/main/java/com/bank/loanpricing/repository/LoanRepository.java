@@ -1,5 +1,6 @@
 package com.bank.loanpricing.repository;
 
+import com.bank.loanpricing.dto.LoanResponse;
 import com.bank.loanpricing.model.Loan;
 import com.bank.loanpricing.model.LoanStatus;
 import org.springframework.data.domain.Page;
@@ -7,18 +8,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.lang.NonNull;
 
-import java.util.List;
-
-public interface LoanRepository extends MongoRepository<Loan, String> {
-
-    @NonNull
-    List<Loan> findByDeletedFalse();
+public interface LoanRepository extends MongoRepository<Loan, String>, LoanRepositoryCustom {
 
+    // List pages are projected onto LoanResponse; only its fields are read from Mongo
     @NonNull
-    Page<Loan> findAll(@NonNull Pageable pageable);
+    Page<LoanResponse> findSummariesBy(@NonNull Pageable pageable);
 
     @NonNull
-    Page<Loan> findByStatus(@NonNull LoanStatus status, @NonNull Pageable pageable);
-
+    Page<LoanResponse> findSummariesByStatus(@NonNull LoanStatus status, @NonNull Pageable pageable);
 
+    long countByStatus(@NonNull LoanStatus status);
 }
@@ -0,0 +1,103 @@
+package com.bank.loanpricing.repository;
+
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+public interface LoanRepositoryCustom {
+
+    /**
+     * Applies {@code update} in a single findAndModify, only if the loan is still in
+     * {@code expectedStatus} and matches {@code guard}. Returns the updated loan, or
+     * empty if the loan is missing or no longer matches.
+     */
+    @NonNull
+    Optional<Loan> transitionIfStatus(@NonNull String id,
+                                      @NonNull LoanStatus expectedStatus,
+                                      @Nullable Criteria guard,
+                                      @NonNull Update update);
+
+    /**
+     * Replaces the stored loan in a single findAndReplace, only if it is still at
+     * {@code loan.getVersion()}, and bumps that version like a {@code save} would.
+     * Returns the document as it was before the write, or empty (version left
+     * unchanged) if the loan is missing or was modified meanwhile.
+     */
+    @NonNull
+    Optional<Loan> replaceIfVersion(@NonNull Loan loan);
+
+    /**
+     * Current {@code @Version} of a loan, read through an {@code {_id, version}}
+     * projection; null if the loan does not exist.
+     */
+    @Nullable
+    Long findVersion(@NonNull String id);
+
+    /**
+     * Cursor-backed stream of non-deleted loans; documents are fetched in batches
+     * as the stream is consumed. The caller must close the stream.
+     */
+    @NonNull
+    Stream<Loan> streamActiveLoans();
+
+    /**
+     * Cursor-backed stream of non-deleted loans carrying only the pricing inputs,
+     * optionally restricted to {@code ids} and/or {@code status}. The caller must
+     * close the stream.
+     */
+    @NonNull
+    Stream<Loan> streamPricingInputs(@Nullable Collection<String> ids, @Nullable LoanStatus status);
+
+    /**
+     * Cursor-backed stream of approved, non-deleted loans that have an approved
+     * rate, carrying only amounts, rate and tenure. The caller must close the stream.
+     */
+    @NonNull
+    Stream<Loan> streamApprovedRateInputs();
+
+    /**
+     * Keyset page ordered by {@code createdAt} then {@code _id}, newest first. Seeks
+     * past {@code (afterCreatedAt, afterId)} instead of skipping, so every page costs
+     * the same. {@code afterId} is null for the first page. Loans without a
+     * {@code createdAt} sort after all dated ones; a null {@code afterCreatedAt}
+     * with an {@code afterId} seeks within them. Rows are projected onto
+     * {@link LoanResponse}.
+     */
+    @NonNull
+    List<LoanResponse> findPageAfter(@Nullable LoanStatus status,
+                             @Nullable Instant afterCreatedAt,
+                             @Nullable String afterId,
+                             int limit);
+
+    /**
+     * Loans that still carry unpublished outbox events. Only {@code _id},
+     * {@code createdBy}, {@code outbox} and the fields of
+     * {@link com.bank.loanpricing.kafka.LoanEvent.Snapshot} are loaded.
+     */
+    @NonNull
+    List<Loan> findWithPendingEvents(int limit);
+
+    /**
+     * Cursor-backed stream of all loans, soft-deleted ones included, carrying only
+     * the fields of {@link com.bank.loanpricing.model.LoanStatsEntry}. Used once to
+     * seed the stats projection. The caller must close the stream.
+     */
+    @NonNull
+    Stream<Loan> streamStatsInputs();
+
+    /**
+     * Pulls published events from a loan's outbox and increments its version, so
+     * a concurrent save of an older copy is rejected as an optimistic-lock conflict.
+     */
+    void removePendingEvents(@NonNull String loanId, @NonNull Collection<String> eventIds);
+}
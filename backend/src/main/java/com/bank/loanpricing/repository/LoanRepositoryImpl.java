@@ -0,0 +1,176 @@
+package com.bank.loanpricing.repository;
+
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+class LoanRepositoryImpl implements LoanRepositoryCustom {
+
+    private static final int EXPORT_BATCH_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    @NonNull
+    public Optional<Loan> transitionIfStatus(@NonNull String id,
+                                             @NonNull LoanStatus expectedStatus,
+                                             @Nullable Criteria guard,
+                                             @NonNull Update update) {
+
+        Criteria criteria = where("_id").is(id).and("status").is(expectedStatus);
+        Query query = Query.query(guard != null ? new Criteria().andOperator(criteria, guard) : criteria);
+
+        // Keep @Version in step so concurrent full-document saves detect this write
+        update.inc("version", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(
+                query, update, FindAndModifyOptions.options().returnNew(true), Loan.class));
+    }
+
+    @Override
+    @NonNull
+    public Optional<Loan> replaceIfVersion(@NonNull Loan loan) {
+        Long expected = loan.getVersion();
+        Query query = Query.query(where("_id").is(loan.getId()).and("version").is(expected));
+
+        loan.setVersion(expected != null ? expected + 1 : 0L);
+        Loan previous = mongoTemplate.findAndReplace(query, loan);
+        if (previous == null) {
+            loan.setVersion(expected);
+        }
+        return Optional.ofNullable(previous);
+    }
+
+    @Override
+    @Nullable
+    public Long findVersion(@NonNull String id) {
+        Query query = Query.query(where("_id").is(id));
+        query.fields().include("version");
+
+        Loan loan = mongoTemplate.findOne(query, Loan.class);
+        return loan != null ? loan.getVersion() : null;
+    }
+
+    @Override
+    @NonNull
+    public Stream<Loan> streamActiveLoans() {
+        Query query = Query.query(where("deleted").ne(true))
+                .cursorBatchSize(EXPORT_BATCH_SIZE);
+
+        // Legacy loans may still carry the embedded audit trail; never ship it
+        query.fields().exclude("actions");
+
+        return mongoTemplate.stream(query, Loan.class);
+    }
+
+    @Override
+    @NonNull
+    public Stream<Loan> streamPricingInputs(@Nullable Collection<String> ids, @Nullable LoanStatus status) {
+        Criteria criteria = where("deleted").ne(true);
+        if (ids != null && !ids.isEmpty()) {
+            criteria.and("_id").in(ids);
+        }
+        if (status != null) {
+            criteria.and("status").is(status);
+        }
+
+        Query query = Query.query(criteria).cursorBatchSize(EXPORT_BATCH_SIZE);
+        query.fields().include("_id", "loanType", "requestedAmount", "proposedInterestRate",
+                "tenureMonths", "financials.rating");
+
+        return mongoTemplate.stream(query, Loan.class);
+    }
+
+    @Override
+    @NonNull
+    public Stream<Loan> streamApprovedRateInputs() {
+        Query query = Query.query(where("status").is(LoanStatus.APPROVED)
+                        .and("deleted").ne(true)
+                        .and("approvedInterestRate").ne(null))
+                .cursorBatchSize(EXPORT_BATCH_SIZE);
+        query.fields().include("_id", "requestedAmount", "sanctionedAmount", "approvedInterestRate", "tenureMonths");
+
+        return mongoTemplate.stream(query, Loan.class);
+    }
+
+    @Override
+    @NonNull
+    public List<LoanResponse> findPageAfter(@Nullable LoanStatus status,
+                                    @Nullable Instant afterCreatedAt,
+                                    @Nullable String afterId,
+                                    int limit) {
+
+        Criteria criteria = new Criteria();
+        if (status != null) {
+            criteria = where("status").is(status);
+        }
+
+        if (afterId != null) {
+            Object idKey = ObjectId.isValid(afterId) ? new ObjectId(afterId) : afterId;
+            // Undated loans sort last and $lt never matches null, so they are sought separately
+            Criteria seek = afterCreatedAt == null
+                    ? where("createdAt").is(null).and("_id").lt(idKey)
+                    : new Criteria().orOperator(
+                            where("createdAt").lt(afterCreatedAt),
+                            where("createdAt").is(afterCreatedAt).and("_id").lt(idKey),
+                            where("createdAt").is(null));
+            criteria = new Criteria().andOperator(criteria, seek);
+        }
+
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "createdAt", "_id"))
+                .limit(limit);
+
+        // DTO projection: only LoanResponse's constructor fields are fetched
+        return mongoTemplate.query(Loan.class).as(LoanResponse.class).matching(query).all();
+    }
+
+    @Override
+    @NonNull
+    public List<Loan> findWithPendingEvents(int limit) {
+        Query query = Query.query(where("outbox.eventId").exists(true)).limit(limit);
+        // Plus the fields published as the event's loan snapshot
+        query.fields().include("_id", "createdBy", "outbox", "loanType", "status", "requestedAmount",
+                "sanctionedAmount", "deleted", "version");
+        return mongoTemplate.find(query, Loan.class);
+    }
+
+    @Override
+    @NonNull
+    public Stream<Loan> streamStatsInputs() {
+        Query query = new Query().cursorBatchSize(EXPORT_BATCH_SIZE);
+        query.fields().include("_id", "createdBy", "loanType", "status", "requestedAmount",
+                "sanctionedAmount", "deleted", "version");
+
+        return mongoTemplate.stream(query, Loan.class);
+    }
+
+    @Override
+    public void removePendingEvents(@NonNull String loanId, @NonNull Collection<String> eventIds) {
+        mongoTemplate.updateFirst(
+                Query.query(where("_id").is(loanId)),
+                // Bump the version so a save holding a pre-pull copy fails instead of
+                // writing the published events back into the outbox
+                new Update().pull("outbox", Query.query(where("eventId").in(eventIds))).inc("version", 1),
+                Loan.class);
+    }
+}
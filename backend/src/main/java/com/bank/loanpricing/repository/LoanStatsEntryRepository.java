@@ -0,0 +1,7 @@
+package com.bank.loanpricing.repository;
+
+import com.bank.loanpricing.model.LoanStatsEntry;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface LoanStatsEntryRepository extends MongoRepository<LoanStatsEntry, String>, LoanStatsEntryRepositoryCustom {
+}
@@ -0,0 +1,25 @@
+package com.bank.loanpricing.repository;
+
+import com.bank.loanpricing.model.LoanStatsBucket;
+import com.bank.loanpricing.model.LoanStatsEntry;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LoanStatsEntryRepositoryCustom {
+
+    /**
+     * Upserts all entries in one unordered bulk write. An entry only replaces a
+     * stored one with a lower {@code version}, so redelivered or reordered events
+     * can never roll a loan back.
+     */
+    void upsertIfNewer(@NonNull Collection<LoanStatsEntry> entries);
+
+    /**
+     * Count and amount totals of non-deleted loans grouped by creator, type and
+     * status, computed in a single aggregation pipeline over {@code loan_stats}.
+     */
+    @NonNull
+    List<LoanStatsBucket> aggregateStats();
+}
@@ -0,0 +1,78 @@
+package com.bank.loanpricing.repository;
+
+import com.bank.loanpricing.model.LoanStatsBucket;
+import com.bank.loanpricing.model.LoanStatsEntry;
+import com.bank.loanpricing.model.LoanStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.NonNull;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.group;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.match;
+import static org.springframework.data.mongodb.core.aggregation.Aggregation.project;
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@RequiredArgsConstructor
+class LoanStatsEntryRepositoryImpl implements LoanStatsEntryRepositoryCustom {
+
+    private static final int DUPLICATE_KEY = 11000;
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void upsertIfNewer(@NonNull Collection<LoanStatsEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        BulkOperations bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, LoanStatsEntry.class);
+        for (LoanStatsEntry entry : entries) {
+            bulk.upsert(
+                    Query.query(where("_id").is(entry.getLoanId()).and("version").lt(entry.getVersion())),
+                    new Update()
+                            .set("createdBy", entry.getCreatedBy())
+                            .set("loanType", entry.getLoanType())
+                            .set("status", entry.getStatus())
+                            .set("requestedAmount", entry.getRequestedAmount())
+                            .set("sanctionedAmount", entry.getSanctionedAmount())
+                            .set("deleted", entry.isDeleted())
+                            .set("version", entry.getVersion()));
+        }
+
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            // A stored entry at the same or a newer version fails the filter, and the upsert
+            // then collides with its _id: that entry is already current
+            if (e.getErrors().stream().anyMatch(error -> error.getCode() != DUPLICATE_KEY)) {
+                throw e;
+            }
+        }
+    }
+
+    @Override
+    @NonNull
+    public List<LoanStatsBucket> aggregateStats() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                match(where("deleted").ne(true)),
+                group("createdBy", "loanType", "status")
+                        .count().as("count")
+                        .sum("requestedAmount").as("requestedAmount")
+                        .sum(ConditionalOperators.when(where("status").is(LoanStatus.APPROVED))
+                                .thenValueOf("sanctionedAmount")
+                                .otherwise(0)).as("sanctionedAmount"),
+                project("createdBy", "loanType", "status", "count", "requestedAmount", "sanctionedAmount")
+                        .andExclude("_id"));
+
+        return mongoTemplate.aggregate(aggregation, LoanStatsEntry.class, LoanStatsBucket.class).getMappedResults();
+    }
+}
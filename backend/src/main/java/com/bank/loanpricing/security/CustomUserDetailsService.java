@@ -2,20 +2,41 @@ package com.bank.loanpricing.security;
 
 import com.bank.loanpricing.model.User;
 import com.bank.loanpricing.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.*;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
-@RequiredArgsConstructor
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    // Short-lived principal cache so authenticated requests skip the Mongo lookup
+    private final Cache<String, UserDetails> principalCache;
+
+    public CustomUserDetailsService(UserRepository userRepository,
+                                    @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                                    @Value("${security.principal-cache.max-size:10000}") long maxSize) {
+        this.userRepository = userRepository;
+        this.principalCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .build();
+    }
+
     @Override
     public UserDetails loadUserByUsername(String email)
             throws UsernameNotFoundException {
 
+        UserDetails cached = principalCache.getIfPresent(email);
+        if (cached != null) {
+            return cached;
+        }
+
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found"));
 
@@ -23,10 +44,20 @@ public class CustomUserDetailsService implements UserDetailsService {
             throw new RuntimeException("User is inactive");
         }
 
-        return org.springframework.security.core.userdetails.User
+        UserDetails userDetails = org.springframework.security.core.userdetails.User
                 .withUsername(user.getEmail())
                 .password(user.getPassword())
                 .roles(user.getRole().name())
                 .build();
+
+        principalCache.put(email, userDetails);
+        return userDetails;
+    }
+
+    // Must be called whenever a user's status or role changes
+    public void evictUser(String email) {
+        if (email != null) {
+            principalCache.invalidate(email);
+        }
     }
 }
@@ -1,5 +1,8 @@
 package com.bank.loanpricing.security;
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import jakarta.servlet.*;
 import jakarta.servlet.http.*;
 import lombok.NonNull;
@@ -18,6 +21,7 @@ public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final CustomUserDetailsService userDetailsService;
+    private final ObservationRegistry observationRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -36,11 +40,14 @@ public class JwtFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            String email = jwtUtil.extractEmail(token);
-            String userId = jwtUtil.extractUserId(token);
+            // Single verification; repeated tokens are served from the claims cache
+            Claims claims = verify(token);
+            String email = claims.getSubject();
+            String userId = claims.get("userId", String.class);
 
             if (SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                UserDetails userDetails = Observation.createNotStarted("loan.security.user.lookup", observationRegistry)
+                        .observe(() -> userDetailsService.loadUserByUsername(email));
 
                 UsernamePasswordAuthenticationToken authToken =
                         new UsernamePasswordAuthenticationToken(
@@ -53,4 +60,21 @@ public class JwtFilter extends OncePerRequestFilter {
 
         filterChain.doFilter(request, response);
     }
+
+    // Cache hits and full signature checks share one histogram; the two modes show up as separate peaks
+    private Claims verify(String token) {
+        Observation observation = Observation.createNotStarted("loan.jwt.verify", observationRegistry)
+                .lowCardinalityKeyValue("outcome", "invalid")
+                .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            Claims claims = jwtUtil.parseClaims(token);
+            observation.lowCardinalityKeyValue("outcome", "valid");
+            return claims;
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
 }
\ No newline at end of file
@@ -1,12 +1,22 @@
 package com.bank.loanpricing.security;
 
 import com.bank.loanpricing.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -17,6 +27,28 @@ public class JwtUtil {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    @Value("${jwt.claims-cache.max-size:10000}")
+    private long claimsCacheMaxSize;
+
+    // Built once: key derivation and parser setup are not free
+    private Key signingKey;
+    private JwtParser parser;
+
+    // Verified claims keyed by SHA-256 of the token, evicted at the token's exp
+    private Cache<String, Claims> claimsCache;
+
+    @PostConstruct
+    void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parserBuilder()
+                .setSigningKey(signingKey)
+                .build();
+        claimsCache = Caffeine.newBuilder()
+                .maximumSize(claimsCacheMaxSize)
+                .expireAfter(new ExpireAtTokenExpiry())
+                .build();
+    }
+
     public String generateToken(User user) {
         return Jwts.builder()
                 .setSubject(user.getEmail())
@@ -24,25 +56,74 @@ public class JwtUtil {
                 .claim("userId", user.getId()) // <-- must exist
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(Keys.hmacShaKeyFor(secret.getBytes()), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
-    public String extractUserId(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(secret.getBytes())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Returns the verified claims of the token. The signature is checked at most
+     * once per token; repeated calls are served from the cache until the token expires.
+     */
+    public Claims parseClaims(String token) {
+        String key = hash(token);
+        Claims claims = claimsCache.getIfPresent(key);
+
+        if (claims != null) {
+            // Entries can outlive exp by a few ms before the cache sweeps them
+            if (claims.getExpiration() != null && claims.getExpiration().before(new Date())) {
+                claimsCache.invalidate(key);
+                throw new ExpiredJwtException(null, claims, "JWT expired");
+            }
+            return claims;
+        }
 
-        return claims.get("userId", String.class); // matches the claim we added when generating the token
+        claims = parser.parseClaimsJws(token).getBody();
+        claimsCache.put(key, claims);
+        return claims;
+    }
+
+    public String extractUserId(String token) {
+        return parseClaims(token).get("userId", String.class); // matches the claim we added when generating the token
     }
+
     public String extractEmail(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secret.getBytes())
-                .build()
-                .parseClaimsJws(token)
-                .getBody()
-                .getSubject(); // email stored as subject
+        return parseClaims(token).getSubject(); // email stored as subject
+    }
+
+    public String extractRole(String token) {
+        return parseClaims(token).get("role", String.class);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static class ExpireAtTokenExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date exp = claims.getExpiration();
+            if (exp == null) {
+                return 0; // never cache tokens without exp
+            }
+            long remainingMillis = Math.max(0, exp.getTime() - System.currentTimeMillis());
+            return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
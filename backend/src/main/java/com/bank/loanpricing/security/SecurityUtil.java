@@ -21,4 +21,14 @@ public class SecurityUtil {
         }
         return null;
     }
+
+    // True if the current user holds ROLE_<role>
+    public static boolean hasRole(String role) {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || auth.getAuthorities() == null) {
+            return false;
+        }
+        String authority = "ROLE_" + role;
+        return auth.getAuthorities().stream().anyMatch(a -> authority.equals(a.getAuthority()));
+    }
 }
@@ -0,0 +1,101 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.dto.AmortizationSummary;
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.pricing.Annuity;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * EMI schedules for amortizing loans. Sanctioned terms are used once an admin has
+ * set them, otherwise the requested amount and proposed rate.
+ */
+@Service
+public class AmortizationService {
+
+    private static final Set<LoanType> AMORTIZING_TYPES = EnumSet.of(LoanType.TERM_LOAN, LoanType.SME_LOAN);
+
+    static final int MAX_TENURE_MONTHS = 360;
+
+    @FunctionalInterface
+    public interface RowSink {
+        void accept(int month, double payment, double principal, double interest, double balance)
+                throws IOException;
+    }
+
+    // Totals straight from the EMI formula; no rows are built
+    public AmortizationSummary summarize(Loan loan) {
+        validate(loan);
+
+        double amount = loanAmount(loan);
+        double annualRate = annualRate(loan);
+        int months = loan.getTenureMonths();
+
+        double payment = Annuity.emi(amount, Annuity.monthlyRate(annualRate), months);
+        double totalPayment = payment * months;
+
+        return new AmortizationSummary(
+                loan.getId(),
+                amount,
+                annualRate,
+                months,
+                round(payment),
+                round(totalPayment),
+                round(totalPayment - amount));
+    }
+
+    /**
+     * Computes the schedule one month at a time and hands each row to
+     * {@code sink} as it goes, so nothing is buffered between rows.
+     * Returns the monthly payment.
+     */
+    public double forEachRow(Loan loan, RowSink sink) throws IOException {
+        validate(loan);
+
+        double rate = Annuity.monthlyRate(annualRate(loan));
+        int months = loan.getTenureMonths();
+        double remaining = loanAmount(loan);
+        double payment = Annuity.emi(remaining, rate, months);
+
+        for (int m = 0; m < months; m++) {
+            double interest = remaining * rate;
+            // The final instalment clears whatever floating-point residue is left
+            double principal = m == months - 1 ? remaining : payment - interest;
+
+            remaining -= principal;
+            sink.accept(m + 1, round(principal + interest), round(principal), round(interest), round(remaining));
+        }
+        return round(payment);
+    }
+
+    // Lets callers reject a loan before they commit to a streamed response
+    public void validate(Loan loan) {
+        if (!AMORTIZING_TYPES.contains(loan.getLoanType())) {
+            throw new BusinessException("Amortization schedules are only available for term and SME loans");
+        }
+        if (loan.getTenureMonths() < 1 || loan.getTenureMonths() > MAX_TENURE_MONTHS) {
+            throw new BusinessException("Tenure must be between 1 and "
+                    + MAX_TENURE_MONTHS + " months");
+        }
+        if (loanAmount(loan) <= 0) {
+            throw new BusinessException("Loan amount must be greater than zero");
+        }
+    }
+
+    private double loanAmount(Loan loan) {
+        return loan.getSanctionedAmount() != null ? loan.getSanctionedAmount() : loan.getRequestedAmount();
+    }
+
+    private double annualRate(Loan loan) {
+        return loan.getApprovedInterestRate() != null ? loan.getApprovedInterestRate() : loan.getProposedInterestRate();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -6,10 +6,13 @@ import com.bank.loanpricing.model.Role;
 import com.bank.loanpricing.model.User;
 import com.bank.loanpricing.repository.UserRepository;
 import com.bank.loanpricing.security.JwtUtil;
+import io.micrometer.core.instrument.Metrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -24,9 +27,11 @@ public class AuthService {
                 .orElseThrow(() -> new BusinessException("Invalid credentials"));
 
         boolean passwordMatches;
+        boolean legacyPlainText = !user.getPassword().startsWith("$2a$") && !user.getPassword().startsWith("$2b$");
+        long start = System.nanoTime();
 
         // Handle existing plain-text users
-        if (!user.getPassword().startsWith("$2a$") && !user.getPassword().startsWith("$2b$")) {
+        if (legacyPlainText) {
             passwordMatches = request.getPassword().equals(user.getPassword());
             // Upgrade password to encoded automatically
             if (passwordMatches) {
@@ -38,6 +43,13 @@ public class AuthService {
             passwordMatches = passwordEncoder.matches(request.getPassword(), user.getPassword());
         }
 
+        // BCrypt dominates login latency by design; track it apart from the rest of the request.
+        // The plain-text path includes its one-off upgrade to BCrypt.
+        Metrics.timer("loan.auth.password.check",
+                        "scheme", legacyPlainText ? "plain" : "bcrypt",
+                        "outcome", passwordMatches ? "match" : "mismatch")
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
         if (!passwordMatches) {
             throw new BusinessException("Invalid credentials");
         }
@@ -0,0 +1,56 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.dto.LoanResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor over {@code (createdAt, _id)}; encodes the sort key of the
+ * last loan on a page so the next page can seek straight to it. A loan without a
+ * {@code createdAt} is encoded with an empty timestamp, and the next page seeks
+ * within the undated loans that sort after every dated one.
+ */
+final class LoanCursor {
+
+    private final Instant createdAt;
+    private final String id;
+
+    private LoanCursor(Instant createdAt, String id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    // Null when the last loan had no createdAt
+    Instant createdAt() {
+        return createdAt;
+    }
+
+    String id() {
+        return id;
+    }
+
+    static String encode(LoanResponse last) {
+        String millis = last.getCreatedAt() != null ? String.valueOf(last.getCreatedAt().toEpochMilli()) : "";
+        String raw = millis + ":" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static LoanCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            String millis = raw.substring(0, sep);
+            String id = raw.substring(sep + 1);
+            if (id.isEmpty()) {
+                throw new IllegalArgumentException("Cursor without id");
+            }
+            return new LoanCursor(millis.isEmpty() ? null : Instant.ofEpochMilli(Long.parseLong(millis)), id);
+        } catch (RuntimeException e) {
+            throw new BusinessException("Invalid page cursor");
+        }
+    }
+}
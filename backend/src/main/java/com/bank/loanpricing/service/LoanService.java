@@ -1,217 +1,327 @@
 package com.bank.loanpricing.service;
 
+import com.bank.loanpricing.dto.CursorPage;
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.dto.LoanStatsResponse;
 import com.bank.loanpricing.dto.SanctionRequest;
 import com.bank.loanpricing.exception.BusinessException;
-import com.bank.loanpricing.kafka.LoanEventProducer;
 import com.bank.loanpricing.model.Financials;
 import com.bank.loanpricing.model.Loan;
 import com.bank.loanpricing.model.LoanAction;
 import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.OutboxEvent;
+import com.bank.loanpricing.pricing.LoanPricer;
+import com.bank.loanpricing.pricing.PriceCache;
+import com.bank.loanpricing.repository.LoanActionRepository;
 import com.bank.loanpricing.repository.LoanRepository;
 import com.bank.loanpricing.security.SecurityUtil;
+import com.bank.loanpricing.tracing.TraceContextCarrier;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
 
 @Service
 @RequiredArgsConstructor
 public class LoanService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final LoanRepository loanRepository;
-    private final LoanEventProducer loanEventProducer;
+    private final LoanActionRepository loanActionRepository;
+    private final LoanPricer loanPricer;
+    private final PriceCache priceCache;
+    private final LoanStatsTable loanStatsTable;
+    private final ObservationRegistry observationRegistry;
+    private final TraceContextCarrier traceContextCarrier;
 
     // ---------------- CREATE ----------------
     public Loan createLoan(Loan loan, String userId) {
-
-        loan.setStatus(LoanStatus.DRAFT);
-        loan.setCreatedBy(userId);
-        loan.setCreatedAt(Instant.now());
-        loan.setDeleted(false);
-
-        if (loan.getActions() == null) {
-            loan.setActions(new ArrayList<>());
-        }
-
-        addAction(loan, "CREATED", "Loan created");
-        return loanRepository.save(loan);
+        return timed("create", () -> {
+            loan.setStatus(LoanStatus.DRAFT);
+            loan.setCreatedBy(userId);
+            loan.setCreatedAt(Instant.now());
+            loan.setDeleted(false);
+
+            // Inserted together with the loan, so the CREATED event cannot be lost
+            loan.setOutbox(new ArrayList<>(List.of(outboxEvent(null, LoanStatus.DRAFT, userId))));
+
+            Loan savedLoan = loanRepository.save(loan);
+            loanStatsTable.add(savedLoan);
+            addAction(savedLoan, "CREATED", "Loan created");
+            return savedLoan;
+        });
     }
 
     // ---------------- PRICE  ----------------
     public double calculatePrice(Loan loan) {
+        return loanPricer.price(loan);
+    }
 
-        double principal = loan.getRequestedAmount();
-        double rate = loan.getProposedInterestRate(); // annual %
-        double tenureYears = loan.getTenureMonths() / 12.0;
-
-        double price = principal + (principal * rate / 100 * tenureYears);
-        return Math.round(price * 100.0) / 100.0;
+    // Memoized: repeat calls for an unchanged loan only read its version, not the whole loan.
+    // Hits are timed too; only a miss loads the loan that tags the timer.
+    public double calculatePrice(String id) {
+        AtomicReference<Loan> loan = new AtomicReference<>();
+        return timed("price", loan::get, () -> {
+            Double cached = priceCache.getForLoan(id, loanRepository.findVersion(id));
+            if (cached != null) {
+                return cached;
+            }
+            loan.set(findLoan(id));
+            return priceCache.get(loan.get(), loanPricer::price);
+        });
     }
 
     // ---------------- READ ----------------
-    public List<Loan> getAllLoans() {
-        return loanRepository.findAll();
+    // Caller must close the stream to release the Mongo cursor
+    public Stream<Loan> streamActiveLoans() {
+        return loanRepository.streamActiveLoans();
     }
 
     public Loan getLoanById(String id) {
-        return loanRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Loan not found"));
+        return timed("get", () -> findLoan(id));
     }
 
     // ---------------- WORKFLOW ----------------
-    public Loan submitLoan(String id) {
-        Loan loan = getLoanById(id);
+    // Each transition is one guarded findAndModify: the status check and the write
+    // happen atomically in Mongo, so concurrent admins cannot overwrite each other.
+    // Kafka events ride in the same write via the loan's outbox (see LoanOutboxRelay).
 
-        if (loan.getStatus() != LoanStatus.DRAFT) {
-            throw new BusinessException("Only DRAFT loans can be submitted");
-        }
-
-        // 🔐 Mandatory check
-        if (loan.getFinancials() == null) {
-            throw new BusinessException("Financial details are mandatory before submission");
-        }
-
-        validateFinancials(loan.getFinancials());
-
-        loan.setStatus(LoanStatus.SUBMITTED);
-        loan.setUpdatedAt(Instant.now());
-        loan.setUpdatedBy(currentUser());
-
-        addAction(loan, "SUBMITTED", "Loan submitted for approval");
-        Loan savedLoan = loanRepository.save(loan);
-        // Publish Kafka event
-        String eventMessage = "{ \"loanId\": \"" + savedLoan.getId() + "\", \"status\": \"" + savedLoan.getStatus() + "\", \"actionBy\": \"" + currentUser() + "\" }";
-        loanEventProducer.publishEvent(eventMessage);
-
-        return savedLoan;
+    public Loan submitLoan(String id) {
+        return timed("submit", () -> {
+            // 🔐 Mandatory check: financials must be complete before submission
+            Criteria financialsComplete = new Criteria().andOperator(
+                    where("financials.revenue").gt(0),
+                    where("financials.ebitda").ne(null),
+                    where("financials.rating").regex("\\S"));
+
+            Update update = new Update()
+                    .set("status", LoanStatus.SUBMITTED)
+                    .set("updatedAt", Instant.now())
+                    .set("updatedBy", currentUser())
+                    .push("outbox", outboxEvent(LoanStatus.DRAFT, LoanStatus.SUBMITTED, currentUser()));
+
+            Loan savedLoan = loanRepository.transitionIfStatus(id, LoanStatus.DRAFT, financialsComplete, update)
+                    .orElseThrow(() -> submitFailure(id));
+            loanStatsTable.move(savedLoan, LoanStatus.DRAFT);
+
+            addAction(savedLoan, "SUBMITTED", "Loan submitted for approval");
+
+            return savedLoan;
+        });
     }
 
     public Loan markUnderReview(String id) {
-        Loan loan = getLoanById(id);
-
-        if (loan.getStatus() != LoanStatus.SUBMITTED) {
-            throw new RuntimeException("Loan must be SUBMITTED to move to UNDER_REVIEW");
-        }
-
-        loan.setStatus(LoanStatus.UNDER_REVIEW);
-        loan.setUpdatedAt(Instant.now());
-        loan.setUpdatedBy(currentUser());
-
-        addAction(loan, "UNDER_REVIEW", "Loan moved to under review");
-        return loanRepository.save(loan);
+        return timed("under_review", () -> {
+            Update update = new Update()
+                    .set("status", LoanStatus.UNDER_REVIEW)
+                    .set("updatedAt", Instant.now())
+                    .set("updatedBy", currentUser())
+                    .push("outbox", outboxEvent(LoanStatus.SUBMITTED, LoanStatus.UNDER_REVIEW, currentUser()));
+
+            Loan savedLoan = loanRepository.transitionIfStatus(id, LoanStatus.SUBMITTED, null, update)
+                    .orElseThrow(() -> transitionFailure(id,
+                            new RuntimeException("Loan must be SUBMITTED to move to UNDER_REVIEW")));
+            loanStatsTable.move(savedLoan, LoanStatus.SUBMITTED);
+
+            addAction(savedLoan, "UNDER_REVIEW", "Loan moved to under review");
+            return savedLoan;
+        });
     }
 
     public Loan sanctionLoan(String id, SanctionRequest request) {
-
-        Loan loan = getLoanById(id);
-
-        if (loan.getStatus() != LoanStatus.UNDER_REVIEW) {
-            throw new BusinessException("Loan must be UNDER_REVIEW to sanction");
-        }
-
-        if (request.getSanctionedAmount() == null || request.getSanctionedAmount() <= 0) {
-            throw new BusinessException("Sanctioned amount must be greater than zero");
-        }
-
-        if (request.getApprovedInterestRate() == null || request.getApprovedInterestRate() <= 0) {
-            throw new BusinessException("Approved interest rate must be valid");
-        }
-
-        loan.setSanctionedAmount(request.getSanctionedAmount());
-        loan.setApprovedInterestRate(request.getApprovedInterestRate());
-        loan.setUpdatedBy(currentUser());
-        loan.setUpdatedAt(Instant.now());
-
-        addAction(loan, "SANCTIONED", "Loan sanctioned by admin");
-
-        return loanRepository.save(loan);
+        return timed("sanction", () -> {
+            if (request.getSanctionedAmount() == null || request.getSanctionedAmount() <= 0) {
+                throw new BusinessException("Sanctioned amount must be greater than zero");
+            }
+
+            if (request.getApprovedInterestRate() == null || request.getApprovedInterestRate() <= 0) {
+                throw new BusinessException("Approved interest rate must be valid");
+            }
+
+            Update update = new Update()
+                    .set("sanctionedAmount", request.getSanctionedAmount())
+                    .set("approvedInterestRate", request.getApprovedInterestRate())
+                    .set("updatedBy", currentUser())
+                    .set("updatedAt", Instant.now());
+
+            Loan savedLoan = loanRepository.transitionIfStatus(id, LoanStatus.UNDER_REVIEW, null, update)
+                    .orElseThrow(() -> transitionFailure(id,
+                            new BusinessException("Loan must be UNDER_REVIEW to sanction")));
+
+            // No stats update: the sanctioned amount is counted once the loan is approved
+
+            addAction(savedLoan, "SANCTIONED", "Loan sanctioned by admin");
+            return savedLoan;
+        });
     }
 
 
     public Loan approveLoan(String id) {
-        Loan loan = getLoanById(id);
-
-        if (loan.getStatus() != LoanStatus.UNDER_REVIEW) {
-            throw new RuntimeException("Loan must be UNDER_REVIEW to approve");
-        }
-
-        loan.setStatus(LoanStatus.APPROVED);
-        loan.setApprovedBy(currentUser());
-        loan.setApprovedAt(Instant.now());
-        loan.setUpdatedAt(Instant.now());
-        loan.setUpdatedBy(currentUser());
+        return timed("approve", () -> {
+            Instant now = Instant.now();
+            Update update = new Update()
+                    .set("status", LoanStatus.APPROVED)
+                    .set("approvedBy", currentUser())
+                    .set("approvedAt", now)
+                    .set("updatedAt", now)
+                    .set("updatedBy", currentUser())
+                    .push("outbox", outboxEvent(LoanStatus.UNDER_REVIEW, LoanStatus.APPROVED, currentUser()));
+
+            Loan savedLoan = loanRepository.transitionIfStatus(id, LoanStatus.UNDER_REVIEW, null, update)
+                    .orElseThrow(() -> transitionFailure(id,
+                            new RuntimeException("Loan must be UNDER_REVIEW to approve")));
+            loanStatsTable.move(savedLoan, LoanStatus.UNDER_REVIEW);
+
+            addAction(savedLoan, "APPROVED", "Loan approved");
+
+            return savedLoan;
+        });
+    }
 
-        addAction(loan, "APPROVED", "Loan approved");
-        Loan savedLoan = loanRepository.save(loan);
-        // Publish Kafka event
-        String eventMessage = "{ \"loanId\": \"" + savedLoan.getId() + "\", \"status\": \"" + savedLoan.getStatus() + "\", \"actionBy\": \"" + currentUser() + "\" }";
-        loanEventProducer.publishEvent(eventMessage);
+    public Loan rejectLoan(String id, String reason) {
+        return timed("reject", () -> {
+            if (reason == null || reason.isBlank()) {
+                throw new BusinessException("Rejection reason is mandatory");
+            }
+
+            Update update = new Update()
+                    .set("status", LoanStatus.REJECTED)
+                    .set("rejectionReason", reason)
+                    .set("updatedAt", Instant.now())
+                    .set("updatedBy", currentUser())
+                    .push("outbox", outboxEvent(LoanStatus.UNDER_REVIEW, LoanStatus.REJECTED, currentUser()));
+
+            Loan savedLoan = loanRepository.transitionIfStatus(id, LoanStatus.UNDER_REVIEW, null, update)
+                    .orElseThrow(() -> transitionFailure(id,
+                            new RuntimeException("Loan must be UNDER_REVIEW to reject")));
+            loanStatsTable.move(savedLoan, LoanStatus.UNDER_REVIEW);
+
+            addAction(savedLoan, "REJECTED", reason);
+
+            return savedLoan;
+        });
+    }
 
-        return savedLoan;
+    // ---------------- UPDATE ----------------
+    public Loan saveLoan(Loan loan) {
+        return timed("update", () -> {
+            loan.setUpdatedAt(Instant.now());
+            loan.setUpdatedBy(currentUser());
+
+            if (loan.getStatus() != LoanStatus.DRAFT) {
+                validateFinancials(loan.getFinancials());
+            }
+
+            // Stats-only event: the status does not change, but the projection needs the new amounts
+            addOutboxEvent(loan, outboxEvent(loan.getStatus(), loan.getStatus(), currentUser()));
+
+            // The caller has already modified this instance; the version-checked replace hands
+            // back the stored before-image for the stats without a second read
+            Loan previous = loanRepository.replaceIfVersion(loan)
+                    .orElseThrow(() -> new OptimisticLockingFailureException(
+                            "Loan " + loan.getId() + " was modified concurrently, please reload and retry"));
+
+            if (!previous.isDeleted()) {
+                loanStatsTable.remove(previous);
+            }
+            if (!loan.isDeleted()) {
+                loanStatsTable.add(loan);
+            }
+            addAction(loan, "UPDATED", "Loan fields updated");
+            return loan;
+        });
     }
 
-    public Loan rejectLoan(String id, String reason) {
-        Loan loan = getLoanById(id);
+    // ---------------- DELETE ----------------
+    public Loan softDeleteLoan(String id) {
+        return timed("delete", () -> {
+            Loan loan = findLoan(id);
+            boolean wasActive = !loan.isDeleted();
+            loan.setDeleted(true);
+            loan.setDeletedAt(Instant.now());
+            loan.setDeletedBy(currentUser());
+            if (wasActive) {
+                addOutboxEvent(loan, traced(OutboxEvent.deletedIn(loan.getStatus(), currentUser())));
+            }
+
+            Loan savedLoan = loanRepository.save(loan);
+            if (wasActive) {
+                loanStatsTable.remove(savedLoan);
+            }
+            addAction(savedLoan, "DELETED", "Loan soft deleted");
+            return savedLoan;
+        });
+    }
 
-        if (loan.getStatus() != LoanStatus.UNDER_REVIEW) {
-            throw new RuntimeException("Loan must be UNDER_REVIEW to reject");
-        }
+    // ---------------- LIST ----------------
+    // Pages carry LoanResponse rows projected in Mongo; getLoanById serves the full document
+    public Page<LoanResponse> getLoansPaginated(Pageable pageable) {
+        return timed("list", () -> loanRepository.findSummariesBy(pageable));
+    }
+    public Page<LoanResponse> getLoansByStatus(LoanStatus status, Pageable pageable) {
+        return timed("list", () -> loanRepository.findSummariesByStatus(status, pageable));
+    }
 
-        if (reason == null || reason.isBlank()) {
-            throw new BusinessException("Rejection reason is mandatory");
+    // Keyset pagination: seeks on (createdAt, _id) so deep pages cost the same as page one
+    public CursorPage<LoanResponse> getLoansByCursor(LoanStatus status, String cursor, int size, boolean includeTotal) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException("Page size must be between 1 and " + MAX_PAGE_SIZE);
         }
 
-        loan.setStatus(LoanStatus.REJECTED);
-        loan.setRejectionReason(reason);
-        loan.setUpdatedAt(Instant.now());
-        loan.setUpdatedBy(currentUser());
+        LoanCursor after = (cursor == null || cursor.isBlank()) ? null : LoanCursor.decode(cursor);
 
-        addAction(loan, "REJECTED", reason);
-        Loan savedLoan = loanRepository.save(loan);
-        // Publish Kafka event
-        String eventMessage = "{ \"loanId\": \"" + savedLoan.getId() + "\", \"status\": \"" + savedLoan.getStatus() + "\", \"actionBy\": \"" + currentUser() + "\" }";
-        loanEventProducer.publishEvent(eventMessage);
+        // Fetch one extra row to learn whether another page exists without counting
+        List<LoanResponse> rows = loanRepository.findPageAfter(
+                status,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                size + 1);
 
-        return savedLoan;
-    }
-
-    // ---------------- UPDATE ----------------
-    public Loan saveLoan(Loan loan) {
-        loan.setUpdatedAt(Instant.now());
-        loan.setUpdatedBy(currentUser());
+        boolean hasNext = rows.size() > size;
+        List<LoanResponse> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? LoanCursor.encode(content.get(content.size() - 1)) : null;
 
-        if (loan.getStatus() != LoanStatus.DRAFT) {
-            validateFinancials(loan.getFinancials());
+        Long total = null;
+        if (includeTotal) {
+            total = status != null ? loanRepository.countByStatus(status) : loanRepository.count();
         }
 
-        addAction(loan, "UPDATED", "Loan fields updated");
-        return loanRepository.save(loan);
+        return new CursorPage<>(content, nextCursor, hasNext, total);
     }
 
-    // ---------------- DELETE ----------------
-    public Loan softDeleteLoan(String id) {
-        Loan loan = loanRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Loan not found"));
-        loan.setDeleted(true);
-        loan.setDeletedAt(Instant.now());
-        loan.setDeletedBy(currentUser());
-
-        addAction(loan, "DELETED", "Loan soft deleted");
-        return loanRepository.save(loan);
+    // ---------------- STATS ----------------
+    // Served from memory (see LoanStatsTable); onlyUser limits the per-user breakdown
+    public LoanStatsResponse getLoanStats(@Nullable String onlyUser) {
+        return loanStatsTable.snapshot(onlyUser);
     }
 
-    public Page<Loan> getLoansPaginated(Pageable pageable) {
-        return loanRepository.findAll(pageable);
-    }
-    public Page<Loan> getLoansByStatus(LoanStatus status, Pageable pageable) {
-        return loanRepository.findByStatus(status, pageable);
+    // ---------------- HISTORY ----------------
+    public Page<LoanAction> getLoanHistory(String loanId, Pageable pageable) {
+        return loanActionRepository.findByLoanIdOrderByTimestampDesc(loanId, pageable);
     }
 
     // ---------------- HELPERS ----------------
+    private Loan findLoan(String id) {
+        return loanRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Loan not found"));
+    }
+
     private String currentUser() {
         String userId = SecurityUtil.getCurrentUserId();
 
@@ -223,20 +333,101 @@ public class LoanService {
         return SecurityUtil.getCurrentUserEmail();
     }
 
-    private void addAction(Loan loan, String action, String comments) {
+    // Carries the request's trace so the Kafka consumer continues it after the relay
+    private OutboxEvent outboxEvent(LoanStatus previousStatus, LoanStatus status, String actionBy) {
+        return traced(OutboxEvent.of(previousStatus, status, actionBy));
+    }
 
-        if (loan.getActions() == null) {
-            loan.setActions(new ArrayList<>());
-        }
+    private OutboxEvent traced(OutboxEvent event) {
+        event.setTraceContext(traceContextCarrier.capture());
+        return event;
+    }
+
+    // Full-document saves carry their event in the loan's own outbox list; @Version makes
+    // the save fail rather than drop events the relay has published meanwhile
+    private void addOutboxEvent(Loan loan, OutboxEvent event) {
+        List<OutboxEvent> outbox = loan.getOutbox() != null ? new ArrayList<>(loan.getOutbox()) : new ArrayList<>();
+        outbox.add(event);
+        loan.setOutbox(outbox);
+    }
+
+    // Audit entries are plain inserts into loan_actions; the loan document never grows
+    private void addAction(Loan loan, String action, String comments) {
 
         LoanAction audit = new LoanAction();
+        audit.setLoanId(loan.getId());
         audit.setBy(currentUser()); // this now returns userId
         audit.setAction(action);
         audit.setComments(comments);
         audit.setTimestamp(Instant.now());
 
-        loan.getActions().add(audit);
+        loanActionRepository.insert(audit);
+    }
+    // Only reached when a guarded transition matched nothing: re-read once to explain why
+    private RuntimeException transitionFailure(String id, RuntimeException wrongStatus) {
+        findLoan(id); // throws "Loan not found"
+        return wrongStatus;
+    }
+
+    private RuntimeException submitFailure(String id) {
+        Loan loan = findLoan(id);
+
+        if (loan.getStatus() != LoanStatus.DRAFT) {
+            return new BusinessException("Only DRAFT loans can be submitted");
+        }
+
+        if (loan.getFinancials() == null) {
+            return new BusinessException("Financial details are mandatory before submission");
+        }
+
+        validateFinancials(loan.getFinancials());
+        return new BusinessException("Loan was modified concurrently, please retry");
     }
+
+    // ---------------- OBSERVATION ----------------
+    // One observation per operation: a span in the request's trace (Mongo commands nest under
+    // it) and the loan.service{operation, loan_type, status, outcome} timer. Type and status
+    // come from the returned loan (or the loan being priced), so calls that never reach one,
+    // failures and price cache hits, are tagged "none". Histogram buckets are enabled for
+    // loan.* in application.properties.
+    private <T> T timed(String operation, Supplier<T> call) {
+        return timed(operation, () -> null, call);
+    }
+
+    private <T> T timed(String operation, Supplier<Loan> subject, Supplier<T> call) {
+        Observation observation = Observation.createNotStarted("loan.service", observationRegistry)
+                .contextualName("loan " + operation)
+                .lowCardinalityKeyValue("operation", operation)
+                .start();
+        Loan tagged = null;
+        String outcome = "error";
+
+        try (Observation.Scope scope = observation.openScope()) {
+            T result = call.get();
+            if (result instanceof Loan loan) {
+                tagged = loan;
+            }
+            outcome = "success";
+            return result;
+        } catch (BusinessException e) {
+            outcome = "rejected";
+            throw e;
+        } catch (RuntimeException e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            if (tagged == null) {
+                tagged = subject.get();
+            }
+            observation.lowCardinalityKeyValue("loan_type",
+                            tagged != null && tagged.getLoanType() != null ? tagged.getLoanType().name() : "none")
+                    .lowCardinalityKeyValue("status",
+                            tagged != null && tagged.getStatus() != null ? tagged.getStatus().name() : "none")
+                    .lowCardinalityKeyValue("outcome", outcome)
+                    .stop();
+        }
+    }
+
     private void validateFinancials(Financials financials) {
 
         if (financials == null) {
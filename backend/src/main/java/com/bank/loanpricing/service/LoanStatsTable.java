@@ -0,0 +1,186 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.dto.LoanStatsResponse;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatsBucket;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory totals behind {@code /api/loans/stats}. Every non-deleted loan sits in
+ * exactly one cell, keyed by (createdBy, loanType, status), and each cell is a
+ * {@link LongAdder} count plus {@link DoubleAdder} amount sums, so concurrent
+ * transitions bump striped counters instead of contending on a lock. The
+ * per-status, per-type and per-user views are summed from the cells on read.
+ *
+ * <p>{@link LoanService} applies every write it makes; {@code LoanStatsReconciler}
+ * rebuilds the table from one aggregation of the event-fed loan_stats projection
+ * before the server starts and then periodically, so writes made by other instances
+ * show up within one interval. The projection trails the writes by the outbox and
+ * consumer lag, so a rebuild may briefly drop a write made a moment before it.
+ * A snapshot is not atomic across cells, so a transition in flight may briefly
+ * show in neither or both.
+ */
+@Component
+public class LoanStatsTable {
+
+    private static final LoanStatus[] STATUSES = LoanStatus.values();
+    private static final LoanType[] TYPES = LoanType.values();
+
+    // Legacy loans without a type get their own row so the totals still add up
+    private static final int UNTYPED = TYPES.length;
+    private static final int CELLS_PER_USER = (TYPES.length + 1) * STATUSES.length;
+    private static final String UNKNOWN_USER = "unknown";
+
+    private static final class Cell {
+        final LongAdder count = new LongAdder();
+        final DoubleAdder requested = new DoubleAdder();
+        final DoubleAdder sanctioned = new DoubleAdder();
+    }
+
+    private volatile ConcurrentHashMap<String, Cell[]> cells = new ConcurrentHashMap<>();
+
+    // ---------------- UPDATES ----------------
+    // add/remove take a loan that is (or was, until this write) active
+
+    public void add(Loan loan) {
+        apply(loan, loan.getStatus(), 1);
+    }
+
+    public void remove(Loan loan) {
+        apply(loan, loan.getStatus(), -1);
+    }
+
+    // The loan left status `from` for its current one; deleted loans are not in the table
+    public void move(Loan loan, LoanStatus from) {
+        if (loan.isDeleted()) {
+            return;
+        }
+        apply(loan, from, -1);
+        apply(loan, loan.getStatus(), 1);
+    }
+
+    // Replaces the whole table; a write racing with the swap may land in the discarded
+    // one, which the next reconciliation corrects
+    public void reset(Collection<LoanStatsBucket> buckets) {
+        ConcurrentHashMap<String, Cell[]> rebuilt = new ConcurrentHashMap<>();
+
+        for (LoanStatsBucket bucket : buckets) {
+            if (bucket.getStatus() == null) {
+                continue;
+            }
+            Cell cell = cell(rebuilt, bucket.getCreatedBy(), bucket.getLoanType(), bucket.getStatus());
+            cell.count.add(bucket.getCount());
+            cell.requested.add(bucket.getRequestedAmount());
+            cell.sanctioned.add(bucket.getSanctionedAmount());
+        }
+
+        cells = rebuilt;
+    }
+
+    private void apply(Loan loan, LoanStatus status, int sign) {
+        if (status == null) {
+            return;
+        }
+        Cell cell = cell(cells, loan.getCreatedBy(), loan.getLoanType(), status);
+        cell.count.add(sign);
+        cell.requested.add(sign * loan.getRequestedAmount());
+
+        // Only approved sanctions count; sanction happens UNDER_REVIEW and may be revised
+        if (status == LoanStatus.APPROVED && loan.getSanctionedAmount() != null) {
+            cell.sanctioned.add(sign * loan.getSanctionedAmount());
+        }
+    }
+
+    private static Cell cell(ConcurrentHashMap<String, Cell[]> table, String user, LoanType type, LoanStatus status) {
+        Cell[] row = table.computeIfAbsent(user != null ? user : UNKNOWN_USER, u -> newRow());
+        int typeIndex = type != null ? type.ordinal() : UNTYPED;
+        return row[typeIndex * STATUSES.length + status.ordinal()];
+    }
+
+    private static Cell[] newRow() {
+        Cell[] row = new Cell[CELLS_PER_USER];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = new Cell();
+        }
+        return row;
+    }
+
+    // ---------------- READ ----------------
+    // onlyUser restricts byUser to that user; the other views always cover every loan
+    public LoanStatsResponse snapshot(@Nullable String onlyUser) {
+        long[] statusCounts = new long[STATUSES.length];
+        double[] statusRequested = new double[STATUSES.length];
+        double[] statusSanctioned = new double[STATUSES.length];
+
+        long[] typeCounts = new long[TYPES.length + 1];
+        double[] typeRequested = new double[TYPES.length + 1];
+        double[] typeSanctioned = new double[TYPES.length + 1];
+
+        Map<String, LoanStatsResponse.Totals> byUser = new TreeMap<>();
+
+        cells.forEach((user, row) -> {
+            long userCount = 0;
+            double userRequested = 0;
+            double userSanctioned = 0;
+
+            for (int i = 0; i < row.length; i++) {
+                long count = row[i].count.sum();
+                if (count == 0) {
+                    continue;
+                }
+                double requested = row[i].requested.sum();
+                double sanctioned = row[i].sanctioned.sum();
+                int type = i / STATUSES.length;
+                int status = i % STATUSES.length;
+
+                statusCounts[status] += count;
+                statusRequested[status] += requested;
+                statusSanctioned[status] += sanctioned;
+                typeCounts[type] += count;
+                typeRequested[type] += requested;
+                typeSanctioned[type] += sanctioned;
+
+                userCount += count;
+                userRequested += requested;
+                userSanctioned += sanctioned;
+            }
+
+            if (userCount > 0 && (onlyUser == null || onlyUser.equals(user))) {
+                byUser.put(user, new LoanStatsResponse.Totals(userCount, userRequested, userSanctioned));
+            }
+        });
+
+        Map<LoanStatus, LoanStatsResponse.Totals> byStatus = new EnumMap<>(LoanStatus.class);
+        long totalCount = 0;
+        double totalRequested = 0;
+        double totalSanctioned = 0;
+        for (LoanStatus status : STATUSES) {
+            int s = status.ordinal();
+            byStatus.put(status, new LoanStatsResponse.Totals(statusCounts[s], statusRequested[s], statusSanctioned[s]));
+            totalCount += statusCounts[s];
+            totalRequested += statusRequested[s];
+            totalSanctioned += statusSanctioned[s];
+        }
+
+        Map<LoanType, LoanStatsResponse.Totals> byType = new EnumMap<>(LoanType.class);
+        for (LoanType type : TYPES) {
+            int t = type.ordinal();
+            byType.put(type, new LoanStatsResponse.Totals(typeCounts[t], typeRequested[t], typeSanctioned[t]));
+        }
+
+        return new LoanStatsResponse(
+                new LoanStatsResponse.Totals(totalCount, totalRequested, totalSanctioned),
+                byStatus, byType, byUser);
+    }
+}
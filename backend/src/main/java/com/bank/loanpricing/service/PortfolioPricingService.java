@@ -0,0 +1,88 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.pricing.LoanPricer;
+import com.bank.loanpricing.repository.LoanRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Reprices many loans in one call. Loans are read from a Mongo cursor into
+ * fixed-size chunks of primitive arrays, each chunk is priced in parallel, and
+ * results are handed to the caller in cursor order before the next chunk is read,
+ * so memory stays bounded however large the book is.
+ */
+@Service
+@RequiredArgsConstructor
+public class PortfolioPricingService {
+
+    static final int CHUNK_SIZE = 8_192;
+
+    private final LoanRepository loanRepository;
+    private final LoanPricer loanPricer;
+
+    @FunctionalInterface
+    public interface PriceSink {
+        void accept(String loanId, double price) throws IOException;
+    }
+
+    /**
+     * Prices the non-deleted loans matching {@code ids} and/or {@code status}
+     * (the whole book when both are empty). Loans without a type are reported
+     * with a {@code NaN} price. Returns the number of loans priced.
+     */
+    public long priceLoans(@Nullable Collection<String> ids, @Nullable LoanStatus status, PriceSink sink)
+            throws IOException {
+
+        // Reused for every chunk
+        String[] loanIds = new String[CHUNK_SIZE];
+        LoanType[] types = new LoanType[CHUNK_SIZE];
+        String[] ratings = new String[CHUNK_SIZE];
+        double[] principals = new double[CHUNK_SIZE];
+        double[] rates = new double[CHUNK_SIZE];
+        int[] tenures = new int[CHUNK_SIZE];
+        double[] prices = new double[CHUNK_SIZE];
+
+        long priced = 0;
+        try (Stream<Loan> loans = loanRepository.streamPricingInputs(ids, status)) {
+            Iterator<Loan> it = loans.iterator();
+            int count = 0;
+
+            while (it.hasNext()) {
+                Loan loan = it.next();
+                loanIds[count] = loan.getId();
+                types[count] = loan.getLoanType();
+                ratings[count] = loan.getFinancials() != null ? loan.getFinancials().getRating() : null;
+                principals[count] = loan.getRequestedAmount();
+                rates[count] = loan.getProposedInterestRate();
+                tenures[count] = loan.getTenureMonths();
+
+                if (++count == CHUNK_SIZE) {
+                    priced += flush(loanIds, types, ratings, principals, rates, tenures, prices, count, sink);
+                    count = 0;
+                }
+            }
+            priced += flush(loanIds, types, ratings, principals, rates, tenures, prices, count, sink);
+        }
+        return priced;
+    }
+
+    private int flush(String[] loanIds, LoanType[] types, String[] ratings, double[] principals,
+                      double[] rates, int[] tenures, double[] prices, int count, PriceSink sink)
+            throws IOException {
+
+        loanPricer.priceAll(types, ratings, principals, rates, tenures, prices, count);
+        for (int i = 0; i < count; i++) {
+            sink.accept(loanIds[i], prices[i]);
+        }
+        return count;
+    }
+}
@@ -0,0 +1,103 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.dto.SensitivityRequest;
+import com.bank.loanpricing.dto.SensitivityResponse;
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.pricing.LoanPricer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * What-if pricing: prices a loan over ranges of rate, tenure and amount without
+ * touching the stored loan. Nothing is persisted.
+ */
+@Service
+@RequiredArgsConstructor
+public class SensitivityService {
+
+    static final int MAX_AXIS_POINTS = 200;
+    static final int MAX_CELLS = 100_000;
+
+    private final LoanService loanService;
+    private final LoanPricer loanPricer;
+
+    public SensitivityResponse priceGrid(SensitivityRequest request) {
+        LoanType type;
+        String rating;
+        double baseAmount;
+        double baseRate;
+        int baseTenure;
+
+        if (request.getLoanId() != null) {
+            Loan loan = loanService.getLoanById(request.getLoanId());
+            type = loan.getLoanType();
+            rating = loan.getFinancials() != null ? loan.getFinancials().getRating() : null;
+            baseAmount = loan.getRequestedAmount();
+            baseRate = loan.getProposedInterestRate();
+            baseTenure = loan.getTenureMonths();
+        } else {
+            if (request.getRequestedAmount() == null || request.getProposedInterestRate() == null
+                    || request.getTenureMonths() == null) {
+                throw new BusinessException("Either loanId or requestedAmount, proposedInterestRate and tenureMonths are required");
+            }
+            type = request.getLoanType();
+            rating = request.getRating();
+            baseAmount = request.getRequestedAmount();
+            baseRate = request.getProposedInterestRate();
+            baseTenure = request.getTenureMonths();
+        }
+
+        if (type == null) {
+            throw new BusinessException("Loan type is required for pricing");
+        }
+
+        double[] rates = axis("rate", request.getRate(), baseRate);
+        double[] amounts = axis("amount", request.getAmount(), baseAmount);
+        double[] tenureValues = axis("tenure", request.getTenure(), baseTenure);
+
+        // Fractional steps would round several points onto the same month
+        SensitivityRequest.Range tenureRange = request.getTenure();
+        if (tenureRange != null && (tenureRange.getFrom() % 1 != 0 || tenureRange.getStep() % 1 != 0)) {
+            throw new BusinessException("Tenure range must use whole months");
+        }
+
+        int[] tenures = new int[tenureValues.length];
+        for (int i = 0; i < tenures.length; i++) {
+            tenures[i] = (int) tenureValues[i];
+            if (tenures[i] < 1) {
+                throw new BusinessException("Tenure must be at least 1 month");
+            }
+        }
+
+        if ((long) rates.length * tenures.length * amounts.length > MAX_CELLS) {
+            throw new BusinessException("Sensitivity grid exceeds " + MAX_CELLS + " cells");
+        }
+
+        return new SensitivityResponse(rates, tenures, amounts,
+                loanPricer.priceGrid(type, rating, amounts, tenures, rates));
+    }
+
+    private double[] axis(String name, SensitivityRequest.Range range, double base) {
+        if (range == null) {
+            return new double[]{base};
+        }
+        // Also enforced by Bean Validation on the request; kept for direct callers
+        if (range.getFrom() < 0 || range.getStep() <= 0 || range.getTo() < range.getFrom()) {
+            throw new BusinessException("Invalid " + name + " range");
+        }
+
+        // Tolerance so 0.1-style steps still land on the inclusive upper bound
+        long points = (long) Math.floor((range.getTo() - range.getFrom()) / range.getStep() + 1e-9) + 1;
+        if (points > MAX_AXIS_POINTS) {
+            throw new BusinessException("The " + name + " range exceeds " + MAX_AXIS_POINTS + " points");
+        }
+
+        double[] values = new double[(int) points];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = range.getFrom() + i * range.getStep();
+        }
+        return values;
+    }
+}
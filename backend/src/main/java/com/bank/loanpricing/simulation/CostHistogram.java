@@ -0,0 +1,102 @@
+package com.bank.loanpricing.simulation;
+
+/**
+ * Streaming histogram of simulated costs. Buckets are log-spaced relative to a
+ * reference cost, so every percentile is accurate to {@link #RELATIVE_PRECISION}
+ * whatever the scale of the book, and memory is fixed however many paths are
+ * recorded. Values outside the covered range land in the edge buckets; exact
+ * min and max are tracked separately.
+ */
+final class CostHistogram {
+
+    static final double RELATIVE_PRECISION = 0.0005;
+
+    // Covers reference / 4 .. reference * 4
+    private static final double RANGE = 4.0;
+    private static final double LOG_STEP = Math.log1p(RELATIVE_PRECISION);
+    private static final int HALF_BUCKETS = (int) Math.ceil(Math.log(RANGE) / LOG_STEP);
+
+    private final double reference;
+    private final long[] counts = new long[2 * HALF_BUCKETS + 1];
+
+    private long count;
+    private double sum;
+    private double min = Double.POSITIVE_INFINITY;
+    private double max = Double.NEGATIVE_INFINITY;
+
+    CostHistogram(double reference) {
+        this.reference = reference;
+    }
+
+    void record(double value) {
+        int bucket;
+        if (value <= 0) {
+            bucket = 0;
+        } else {
+            long offset = (long) Math.floor(Math.log(value / reference) / LOG_STEP);
+            bucket = (int) Math.max(0, Math.min(counts.length - 1, offset + HALF_BUCKETS));
+        }
+        counts[bucket]++;
+
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    void merge(CostHistogram other) {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    // Unshocked cost the buckets are centred on
+    double reference() {
+        return reference;
+    }
+
+    long count() {
+        return count;
+    }
+
+    double mean() {
+        return count == 0 ? Double.NaN : sum / count;
+    }
+
+    double min() {
+        return min;
+    }
+
+    double max() {
+        return max;
+    }
+
+    // q in [0, 1]; bucket midpoint, clamped to the observed range
+    double percentile(double q) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(q * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                // Edge buckets also hold out-of-range values; report the observed extreme
+                if (i == 0) {
+                    return min;
+                }
+                if (i == counts.length - 1) {
+                    return max;
+                }
+                double value = reference * Math.exp((i - HALF_BUCKETS + 0.5) * LOG_STEP);
+                return Math.max(min, Math.min(max, value));
+            }
+        }
+        return max;
+    }
+}
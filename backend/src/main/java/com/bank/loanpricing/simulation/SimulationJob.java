@@ -0,0 +1,50 @@
+package com.bank.loanpricing.simulation;
+
+import com.bank.loanpricing.dto.RateShockRequest;
+import com.bank.loanpricing.dto.RateShockResult;
+import com.bank.loanpricing.dto.SimulationJobResponse;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Mutable state of one run; written by the worker, read by status polls
+final class SimulationJob {
+
+    enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    final String id = UUID.randomUUID().toString();
+    final RateShockRequest request;
+    final Instant submittedAt = Instant.now();
+    final AtomicLong completedPaths = new AtomicLong();
+
+    private volatile Status status = Status.QUEUED;
+    private volatile Instant completedAt;
+    private volatile RateShockResult result;
+    private volatile String error;
+
+    SimulationJob(RateShockRequest request) {
+        this.request = request;
+    }
+
+    void running() {
+        status = Status.RUNNING;
+    }
+
+    void completed(RateShockResult result) {
+        this.result = result;
+        this.completedAt = Instant.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void failed(String error) {
+        this.error = error;
+        this.completedAt = Instant.now();
+        this.status = Status.FAILED;
+    }
+
+    SimulationJobResponse toResponse() {
+        return new SimulationJobResponse(id, status.name(), submittedAt, completedAt,
+                request.getPaths(), completedPaths.get(), error, result);
+    }
+}
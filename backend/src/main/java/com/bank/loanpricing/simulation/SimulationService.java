@@ -0,0 +1,167 @@
+package com.bank.loanpricing.simulation;
+
+import com.bank.loanpricing.dto.RateShockRequest;
+import com.bank.loanpricing.dto.RateShockResult;
+import com.bank.loanpricing.dto.SimulationJobResponse;
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.repository.LoanRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Runs rate-shock simulations as background jobs. Submission returns at once with
+ * a job id to poll. A small queue bounds how many runs can wait, and the paths of
+ * a run are spread over a dedicated fork/join pool so long runs never starve
+ * request-path parallel work on the common pool. Queued and running jobs are held
+ * until they finish; only finished jobs are subject to the retention cache.
+ */
+@Slf4j
+@Service
+public class SimulationService {
+
+    private final LoanRepository loanRepository;
+    private final ExecutorService jobExecutor;
+    private final ForkJoinPool simulationPool;
+    // Bounded by the executor's capacity, since rejected jobs are removed at once
+    private final Map<String, SimulationJob> liveJobs = new ConcurrentHashMap<>();
+    private final Cache<String, SimulationJob> finishedJobs;
+
+    public SimulationService(LoanRepository loanRepository,
+                             @Value("${simulation.max-concurrent-jobs:1}") int maxConcurrentJobs,
+                             @Value("${simulation.max-queued-jobs:4}") int maxQueuedJobs,
+                             @Value("${simulation.retention-minutes:60}") long retentionMinutes) {
+        this.loanRepository = loanRepository;
+        this.jobExecutor = new ThreadPoolExecutor(maxConcurrentJobs, maxConcurrentJobs,
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(maxQueuedJobs));
+        this.simulationPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        this.finishedJobs = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(retentionMinutes))
+                .maximumSize(1_000)
+                .build();
+    }
+
+    public SimulationJobResponse submit(RateShockRequest request) {
+        SimulationJob job = new SimulationJob(request);
+        liveJobs.put(job.id, job);
+        try {
+            jobExecutor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            liveJobs.remove(job.id);
+            throw new BusinessException("Too many simulations in progress, try again later");
+        }
+        return job.toResponse();
+    }
+
+    public SimulationJobResponse getJob(String id) {
+        SimulationJob job = liveJobs.get(id);
+        if (job == null) {
+            job = finishedJobs.getIfPresent(id);
+        }
+        if (job == null) {
+            throw new BusinessException("Simulation not found");
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        simulationPool.shutdownNow();
+    }
+
+    void run(SimulationJob job) {
+        job.running();
+        try {
+            job.completed(simulate(job));
+            log.info("Rate-shock simulation {} completed", job.id);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.failed("Simulation interrupted");
+        } catch (BusinessException e) {
+            log.warn("⚠️  Rate-shock simulation {} failed: {}", job.id, e.getMessage());
+            job.failed(e.getMessage());
+        } catch (Exception e) {
+            log.error("Rate-shock simulation {} failed: {}", job.id, e.getMessage(), e);
+            job.failed(e.getMessage());
+        } finally {
+            // Cached before it leaves the live map so a poll in between still finds it
+            finishedJobs.put(job.id, job);
+            liveJobs.remove(job.id);
+        }
+    }
+
+    private RateShockResult simulate(SimulationJob job) throws Exception {
+        RateShockRequest request = job.request;
+
+        // Book snapshot as primitive arrays, grown as the cursor is read
+        double[] principals = new double[1_024];
+        double[] rates = new double[1_024];
+        int[] tenures = new int[1_024];
+        int loans = 0;
+
+        try (Stream<Loan> approved = loanRepository.streamApprovedRateInputs()) {
+            Iterator<Loan> it = approved.iterator();
+            while (it.hasNext()) {
+                Loan loan = it.next();
+                if (loan.getTenureMonths() <= 0) {
+                    continue;
+                }
+                if (loans == principals.length) {
+                    principals = Arrays.copyOf(principals, loans * 2);
+                    rates = Arrays.copyOf(rates, loans * 2);
+                    tenures = Arrays.copyOf(tenures, loans * 2);
+                }
+                principals[loans] = loan.getSanctionedAmount() != null
+                        ? loan.getSanctionedAmount() : loan.getRequestedAmount();
+                rates[loans] = loan.getApprovedInterestRate();
+                tenures[loans] = loan.getTenureMonths();
+                loans++;
+            }
+        }
+
+        if (loans == 0) {
+            throw new BusinessException("No approved loans with an approved interest rate");
+        }
+
+        long seed = request.getSeed() != null ? request.getSeed() : ThreadLocalRandom.current().nextLong();
+        CostHistogram histogram = RateShockSimulator.simulate(principals, rates, tenures, loans,
+                request.getPaths(), request.getAnnualVolatility(), request.getAnnualDrift(), seed,
+                simulationPool, job.completedPaths);
+
+        return new RateShockResult(
+                loans,
+                histogram.count(),
+                round(histogram.reference()),
+                round(histogram.mean()),
+                round(histogram.min()),
+                round(histogram.max()),
+                round(histogram.percentile(0.50)),
+                round(histogram.percentile(0.90)),
+                round(histogram.percentile(0.95)),
+                round(histogram.percentile(0.99)),
+                round(histogram.percentile(0.999)));
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
@@ -0,0 +1,161 @@
+package com.bank.loanpricing.stream;
+
+import com.bank.loanpricing.kafka.LoanEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Fans loan status events out to Server-Sent Event subscribers. Admins receive
+ * every event; users only events for loans they created.
+ *
+ * <p>Open streams are async servlet requests, so an idle subscriber costs a
+ * socket and a small buffer but no thread. Each event is serialized once and
+ * queued per subscriber; a small dispatcher pool does the writes. A subscriber
+ * whose buffer fills up is disconnected instead of holding up the others, and
+ * the browser's reconnect starts it again from the live edge.
+ */
+@Component
+@Slf4j
+public class LoanEventStream {
+
+    static final String EVENT_NAME = "loan-status";
+
+    // Comment frames keep idle connections open through proxies and surface dead clients
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("keep-alive").build();
+
+    private final ObjectMapper objectMapper;
+    private final Executor dispatcher;
+    private final int bufferSize;
+    private final long timeoutMs;
+
+    private final Set<LoanEventSubscriber> admins = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<String, Set<LoanEventSubscriber>> byUser = new ConcurrentHashMap<>();
+
+    @Autowired
+    public LoanEventStream(ObjectMapper objectMapper,
+                           @Value("${loan-events.stream.dispatch-threads:4}") int dispatchThreads,
+                           @Value("${loan-events.stream.buffer-size:64}") int bufferSize,
+                           @Value("${loan-events.stream.timeout-ms:1800000}") long timeoutMs) {
+        this(objectMapper,
+                Executors.newFixedThreadPool(dispatchThreads, new CustomizableThreadFactory("loan-events-stream-")),
+                bufferSize, timeoutMs);
+    }
+
+    LoanEventStream(ObjectMapper objectMapper, Executor dispatcher, int bufferSize, long timeoutMs) {
+        this.objectMapper = objectMapper;
+        this.dispatcher = dispatcher;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+
+        Metrics.gauge("loan.events.stream.subscribers", this, LoanEventStream::subscriberCount);
+    }
+
+    // ---------------- SUBSCRIBE ----------------
+    public SseEmitter subscribe(String user, boolean admin) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        LoanEventSubscriber subscriber = new LoanEventSubscriber(emitter, user, admin, bufferSize);
+
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> subscriber.close(dispatcher));
+        emitter.onError(e -> subscriber.close(dispatcher));
+
+        if (admin) {
+            admins.add(subscriber);
+        } else {
+            // Added inside compute so a concurrent unregister cannot drop the set under us
+            byUser.compute(user, (u, subscribers) -> {
+                Set<LoanEventSubscriber> set = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+                set.add(subscriber);
+                return set;
+            });
+        }
+
+        // Flushes the response headers so the client sees the stream open straight away
+        deliver(subscriber, HEARTBEAT);
+        return emitter;
+    }
+
+    // ---------------- PUBLISH ----------------
+    // Called from the Kafka listener thread: only enqueues, never writes to a socket
+    public void publish(LoanEvent event) {
+        Set<DataWithMediaType> frame;
+        try {
+            frame = SseEmitter.event()
+                    .id(event.eventId())
+                    .name(EVENT_NAME)
+                    .data(objectMapper.writeValueAsString(event), MediaType.APPLICATION_JSON)
+                    .build();
+        } catch (JsonProcessingException e) {
+            log.warn("⚠️  Could not serialize loan event {}: {}", event.eventId(), e.getMessage());
+            return;
+        }
+
+        Consumer<LoanEventSubscriber> send = subscriber -> deliver(subscriber, frame);
+        admins.forEach(send);
+        if (event.createdBy() != null) {
+            Set<LoanEventSubscriber> owners = byUser.get(event.createdBy());
+            if (owners != null) {
+                owners.forEach(send);
+            }
+        }
+    }
+
+    @Scheduled(fixedRateString = "${loan-events.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        admins.forEach(subscriber -> deliver(subscriber, HEARTBEAT));
+        byUser.values().forEach(subscribers -> subscribers.forEach(subscriber -> deliver(subscriber, HEARTBEAT)));
+    }
+
+    public int subscriberCount() {
+        return admins.size() + byUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        admins.forEach(subscriber -> subscriber.close(dispatcher));
+        byUser.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.close(dispatcher)));
+        if (dispatcher instanceof ExecutorService executor) {
+            executor.shutdown();
+        }
+    }
+
+    // ---------------- HELPERS ----------------
+    private void deliver(LoanEventSubscriber subscriber, Set<DataWithMediaType> frame) {
+        if (subscriber.offer(frame)) {
+            subscriber.schedule(dispatcher);
+        } else if (!subscriber.isClosed()) {
+            Metrics.counter("loan.events.stream.dropped", "reason", "slow").increment();
+            unregister(subscriber);
+            subscriber.close(dispatcher);
+        }
+    }
+
+    private void unregister(LoanEventSubscriber subscriber) {
+        if (subscriber.admin) {
+            admins.remove(subscriber);
+            return;
+        }
+        byUser.computeIfPresent(subscriber.user, (user, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+    }
+}
@@ -0,0 +1,91 @@
+package com.bank.loanpricing.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One open event stream. Frames are queued in a fixed-size buffer and written by
+ * at most one dispatcher task at a time, so the publisher never touches the
+ * socket: it either enqueues or finds the buffer full and drops the subscriber.
+ */
+final class LoanEventSubscriber {
+
+    final SseEmitter emitter;
+    final String user;
+    final boolean admin;
+
+    private final BlockingQueue<Set<DataWithMediaType>> buffer;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final AtomicBoolean completed = new AtomicBoolean();
+    private volatile boolean closed;
+
+    LoanEventSubscriber(SseEmitter emitter, String user, boolean admin, int bufferSize) {
+        this.emitter = emitter;
+        this.user = user;
+        this.admin = admin;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    }
+
+    // False if the subscriber is closed or has fallen a full buffer behind
+    boolean offer(Set<DataWithMediaType> frame) {
+        return !closed && buffer.offer(frame);
+    }
+
+    boolean isClosed() {
+        return closed;
+    }
+
+    // The emitter is completed by the dispatcher, never by the caller, which may be a listener thread
+    void close(Executor dispatcher) {
+        closed = true;
+        schedule(dispatcher);
+    }
+
+    void schedule(Executor dispatcher) {
+        if (scheduled.compareAndSet(false, true)) {
+            dispatcher.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                if (closed) {
+                    buffer.clear();
+                    complete();
+                    return;
+                }
+
+                Set<DataWithMediaType> frame = buffer.poll();
+                if (frame == null) {
+                    scheduled.set(false);
+                    // A frame or close may have arrived after the poll; take the task back if so
+                    if ((buffer.isEmpty() && !closed) || !scheduled.compareAndSet(false, true)) {
+                        return;
+                    }
+                    continue;
+                }
+
+                emitter.send(frame);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Client went away or the emitter already completed
+            closed = true;
+            buffer.clear();
+            complete();
+        }
+    }
+
+    private void complete() {
+        if (completed.compareAndSet(false, true)) {
+            emitter.complete();
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.bank.loanpricing.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Carries trace context across the asynchronous hop from a request to Kafka.
+ * A loan transition captures the active context into its outbox entry, the relay
+ * restores it as the parent of the producer span, and the propagation headers on
+ * the record let the consumer continue the same trace.
+ */
+@Component
+@RequiredArgsConstructor
+public class TraceContextCarrier {
+
+    private static final Propagator.Getter<Headers> KAFKA_GETTER = (headers, key) -> {
+        Header header = headers.lastHeader(key);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    };
+
+    private static final Propagator.Setter<Headers> KAFKA_SETTER = (headers, key, value) -> {
+        if (headers != null) {
+            headers.remove(key).add(key, value.getBytes(StandardCharsets.UTF_8));
+        }
+    };
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    // Propagation headers (W3C traceparent) of the current span, or null outside a trace
+    @Nullable
+    public Map<String, String> capture() {
+        Span current = tracer.currentSpan();
+        if (current == null) {
+            return null;
+        }
+        Map<String, String> context = new HashMap<>(2);
+        propagator.inject(current.context(), context, Map::put);
+        return context.isEmpty() ? null : context;
+    }
+
+    // Child of a captured context; falls back to the current span (or a new trace) if there is none
+    public Span startSpan(String name, Span.Kind kind, @Nullable Map<String, String> context) {
+        Span.Builder builder = context != null && !context.isEmpty()
+                ? propagator.extract(context, Map::get)
+                : tracer.spanBuilder();
+        return builder.name(name).kind(kind).start();
+    }
+
+    public Span startSpan(String name, Span.Kind kind, Headers headers) {
+        return propagator.extract(headers, KAFKA_GETTER).name(name).kind(kind).start();
+    }
+
+    public void inject(Span span, Headers headers) {
+        propagator.inject(span.context(), headers, KAFKA_SETTER);
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.loanpricing.config;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KafkaConfigTest {
+
+    private static KafkaConfig kafkaConfig(boolean virtualThreads) {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", String.valueOf(virtualThreads));
+        KafkaConfig config = new KafkaConfig(environment);
+        ReflectionTestUtils.setField(config, "bootstrapServers", "localhost:9092");
+        return config;
+    }
+
+    @Test
+    void shouldKeepDefaultListenerThreadsWhenVirtualThreadsAreOff() {
+        ConcurrentKafkaListenerContainerFactory<?, ?> factory = kafkaConfig(false).loanEventStreamContainerFactory();
+
+        assertNull(factory.getContainerProperties().getListenerTaskExecutor());
+    }
+
+    @Test
+    @EnabledForJreRange(max = JRE.JAVA_20)
+    void shouldIgnoreVirtualThreadsBelowJava21() {
+        ConcurrentKafkaListenerContainerFactory<?, ?> factory = kafkaConfig(true).loanEventStreamContainerFactory();
+
+        assertNull(factory.getContainerProperties().getListenerTaskExecutor());
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldRunListenersOnVirtualThreadsWhenEnabled() throws Exception {
+        KafkaConfig config = kafkaConfig(true);
+
+        for (ConcurrentKafkaListenerContainerFactory<?, ?> factory : new ConcurrentKafkaListenerContainerFactory<?, ?>[]{
+                config.kafkaListenerContainerFactory(), config.loanEventStreamContainerFactory()}) {
+            AsyncTaskExecutor executor = factory.getContainerProperties().getListenerTaskExecutor();
+            SimpleAsyncTaskExecutor listenerExecutor = assertInstanceOf(SimpleAsyncTaskExecutor.class, executor);
+
+            // Compiled for Java 17, so Thread.isVirtual() is not available here
+            CompletableFuture<String> threadClass =
+                    listenerExecutor.submitCompletable(() -> Thread.currentThread().getClass().getName());
+            assertEquals("java.lang.VirtualThread", threadClass.get());
+        }
+    }
+}
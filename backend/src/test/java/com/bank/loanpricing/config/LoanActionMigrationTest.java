@@ -0,0 +1,61 @@
+package com.bank.loanpricing.config;
+
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoanActionMigrationTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private MigrationLog migrationLog;
+
+    @InjectMocks
+    private LoanActionMigration migration;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(migration, "enabled", true);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldMigrateOnceAndRecordCompletion() {
+        MongoCollection<Document> loans = mock(MongoCollection.class);
+        FindIterable<Document> legacy = mock(FindIterable.class);
+        MongoCursor<Document> cursor = mock(MongoCursor.class);
+        when(mongoTemplate.getCollection("loans")).thenReturn(loans);
+        when(loans.find(any(Document.class))).thenReturn(legacy);
+        when(legacy.projection(any())).thenReturn(legacy);
+        when(legacy.iterator()).thenReturn(cursor);
+
+        migration.afterSingletonsInstantiated();
+
+        verify(migrationLog).markApplied(LoanActionMigration.MIGRATION_ID);
+    }
+
+    @Test
+    void shouldNotScanLoansOnceMigrated() {
+        when(migrationLog.isApplied(LoanActionMigration.MIGRATION_ID)).thenReturn(true);
+
+        migration.afterSingletonsInstantiated();
+
+        verifyNoInteractions(mongoTemplate);
+        verify(migrationLog, never()).markApplied(any());
+    }
+}
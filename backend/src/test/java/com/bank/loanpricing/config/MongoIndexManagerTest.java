@@ -0,0 +1,88 @@
+package com.bank.loanpricing.config;
+
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexField;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.support.MongoRepositoryFactoryBean;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class MongoIndexManagerTest {
+
+    // Only ever wired into the test context below
+    interface ScanLoanRepository extends MongoRepository<Loan, String> {
+
+        List<Loan> findByStatus(LoanStatus status);
+
+        List<Loan> findByClientName(String clientName);
+    }
+
+    private MongoTemplate mongoTemplate;
+    private IndexOperations indexOps;
+    private GenericApplicationContext context;
+
+    @BeforeEach
+    void setUp() {
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setInitialEntitySet(Set.of(Loan.class));
+        mappingContext.setSimpleTypeHolder(new MongoCustomConversions(List.of()).getSimpleTypeHolder());
+        mappingContext.afterPropertiesSet();
+
+        mongoTemplate = mock(MongoTemplate.class);
+        indexOps = mock(IndexOperations.class);
+        when(mongoTemplate.getConverter())
+                .thenReturn(new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext));
+        when(mongoTemplate.indexOps(Loan.class)).thenReturn(indexOps);
+        when(indexOps.getIndexInfo()).thenReturn(List.of(
+                new IndexInfo(List.of(IndexField.create("status", Sort.Direction.ASC)),
+                        "status_idx", false, false, "")));
+
+        RootBeanDefinition repository = new RootBeanDefinition(MongoRepositoryFactoryBean.class);
+        repository.getConstructorArgumentValues().addGenericArgumentValue(ScanLoanRepository.class);
+        repository.getPropertyValues().add("mongoOperations", mongoTemplate);
+
+        context = new GenericApplicationContext();
+        context.registerBeanDefinition("scanLoanRepository", repository);
+        context.refresh();
+    }
+
+    @Test
+    void shouldCreateDeclaredIndexes() {
+        new MongoIndexManager(mongoTemplate, context).run(null);
+
+        verify(indexOps, atLeastOnce()).createIndex(any(IndexDefinition.class));
+    }
+
+    @Test
+    void shouldKeepStartingWhenAnIndexCannotBeCreated() {
+        when(indexOps.createIndex(any(IndexDefinition.class))).thenThrow(new IllegalStateException("duplicate key"));
+
+        assertDoesNotThrow(() -> new MongoIndexManager(mongoTemplate, context).run(null));
+    }
+
+    @Test
+    void shouldReportDerivedQueryWithoutLeadingIndex() {
+        List<String> unindexed = new MongoIndexManager(mongoTemplate, context).reportUnindexedQueries();
+
+        assertEquals(List.of("ScanLoanRepository.findByClientName"), unindexed);
+    }
+}
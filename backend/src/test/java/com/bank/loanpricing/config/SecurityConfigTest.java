@@ -0,0 +1,136 @@
+package com.bank.loanpricing.config;
+
+import com.bank.loanpricing.controller.LoanController;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.Role;
+import com.bank.loanpricing.model.User;
+import com.bank.loanpricing.repository.UserRepository;
+import com.bank.loanpricing.security.CustomUserDetailsService;
+import com.bank.loanpricing.security.JwtFilter;
+import com.bank.loanpricing.security.JwtUtil;
+import com.bank.loanpricing.service.AmortizationService;
+import com.bank.loanpricing.service.LoanService;
+import com.bank.loanpricing.service.PortfolioPricingService;
+import com.bank.loanpricing.service.SensitivityService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.config.annotation.EnableWebMvc;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.springSecurity;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+// Runs the real security filter chain, including JwtFilter, in front of LoanController
+@SpringJUnitWebConfig(SecurityConfigTest.TestConfig.class)
+@TestPropertySource(properties = {
+        "jwt.secret=loanPricingSecretKeyloanPricingSecretKey",
+        "jwt.expiration=3600000"
+})
+class SecurityConfigTest {
+
+    @Configuration
+    @EnableWebMvc
+    @Import(SecurityConfig.class)
+    static class TestConfig {
+
+        @Bean
+        JwtUtil jwtUtil() {
+            return new JwtUtil();
+        }
+
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+
+        @Bean
+        JwtFilter jwtFilter(JwtUtil jwtUtil, UserRepository userRepository) {
+            return new JwtFilter(jwtUtil, new CustomUserDetailsService(userRepository, 60, 100),
+                    ObservationRegistry.NOOP);
+        }
+
+        @Bean
+        LoanService loanService() {
+            return mock(LoanService.class);
+        }
+
+        @Bean
+        LoanController loanController(LoanService loanService) {
+            return new LoanController(loanService, mock(PortfolioPricingService.class),
+                    new AmortizationService(), mock(SensitivityService.class),
+                    new ObjectMapper().findAndRegisterModules());
+        }
+    }
+
+    @Autowired
+    private WebApplicationContext context;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LoanService loanService;
+
+    private MockMvc mockMvc;
+    private String token;
+
+    @BeforeEach
+    void setUp() {
+        reset(userRepository, loanService);
+        mockMvc = MockMvcBuilders.webAppContextSetup(context).apply(springSecurity()).build();
+
+        User user = User.builder()
+                .id("u-1")
+                .email("user@test.com")
+                .password("$2a$encoded")
+                .role(Role.USER)
+                .active(true)
+                .build();
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Test
+    void shouldCompleteStreamedResponseOnAsyncDispatch() throws Exception {
+        Loan loan = new Loan();
+        loan.setClientName("Streamed Client");
+        when(loanService.streamActiveLoans()).thenReturn(Stream.of(loan));
+
+        MvcResult result = mockMvc.perform(get("/api/loans").header("Authorization", "Bearer " + token))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // JwtFilter does not run again on the async dispatch; the chain must still let it finish
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].clientName").value("Streamed Client"));
+    }
+
+    @Test
+    void shouldRejectStreamWithoutToken() throws Exception {
+        mockMvc.perform(get("/api/loans"))
+                .andExpect(status().isForbidden());
+
+        verifyNoInteractions(loanService);
+    }
+}
@@ -0,0 +1,59 @@
+package com.bank.loanpricing.config;
+
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class VirtualThreadPinningMonitorTest {
+
+    private static RecordedFrame frame(String type, String method) {
+        RecordedClass recordedClass = mock(RecordedClass.class);
+        when(recordedClass.getName()).thenReturn(type);
+        RecordedMethod recordedMethod = mock(RecordedMethod.class);
+        when(recordedMethod.getType()).thenReturn(recordedClass);
+        when(recordedMethod.getName()).thenReturn(method);
+        RecordedFrame frame = mock(RecordedFrame.class);
+        when(frame.getMethod()).thenReturn(recordedMethod);
+        return frame;
+    }
+
+    private static RecordedStackTrace stackTrace(RecordedFrame... frames) {
+        RecordedStackTrace stackTrace = mock(RecordedStackTrace.class);
+        when(stackTrace.getFrames()).thenReturn(List.of(frames));
+        return stackTrace;
+    }
+
+    @Test
+    void shouldNameInnermostApplicationFrame() {
+        RecordedStackTrace stackTrace = stackTrace(
+                frame("java.lang.VirtualThread", "parkOnCarrierThread"),
+                frame("java.lang.Thread", "sleep"),
+                frame("com.bank.loanpricing.tracing.JsonLinesSpanExporter", "export"),
+                frame("com.bank.loanpricing.service.LoanService", "submitLoan"));
+
+        assertEquals("com.bank.loanpricing.tracing.JsonLinesSpanExporter.export",
+                VirtualThreadPinningMonitor.callSite(stackTrace));
+    }
+
+    @Test
+    void shouldFallBackToTopFrameOutsideApplicationCode() {
+        RecordedStackTrace stackTrace = stackTrace(
+                frame("java.lang.Object", "wait0"),
+                frame("com.mongodb.internal.connection.DefaultConnectionPool", "get"));
+
+        assertEquals("java.lang.Object.wait0", VirtualThreadPinningMonitor.callSite(stackTrace));
+    }
+
+    @Test
+    void shouldReportUnknownWithoutStackTrace() {
+        assertEquals("unknown", VirtualThreadPinningMonitor.callSite(null));
+        assertEquals("unknown", VirtualThreadPinningMonitor.callSite(stackTrace()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.bank.loanpricing.consumer;
+
+import com.bank.loanpricing.kafka.LoanEvent;
+import com.bank.loanpricing.model.LoanStatsEntry;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.repository.LoanStatsEntryRepository;
+import com.bank.loanpricing.tracing.TraceContextCarrier;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoanEventConsumerTest {
+
+    @Mock
+    private Acknowledgment ack;
+
+    @Mock
+    private LoanStatsEntryRepository loanStatsEntryRepository;
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    private LoanEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        Metrics.addRegistry(registry);
+        consumer = new LoanEventConsumer(loanStatsEntryRepository, new TraceContextCarrier(Tracer.NOOP, Propagator.NOOP));
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.removeRegistry(registry);
+    }
+
+    private ConsumerRecord<String, LoanEvent> record(long offset, String eventId, LoanStatus from, LoanStatus to) {
+        return record(offset, "loan-" + offset, eventId, from, to, offset);
+    }
+
+    private ConsumerRecord<String, LoanEvent> record(long offset, String loanId, String eventId,
+                                                     LoanStatus from, LoanStatus to, long version) {
+        LoanEvent.Snapshot snapshot = new LoanEvent.Snapshot(LoanType.TERM_LOAN, to, 100000, null, false, version);
+        LoanEvent event = new LoanEvent(eventId, loanId, "owner@test.com", from, to, "user-1", Instant.now(),
+                false, snapshot);
+        return new ConsumerRecord<>("loan-events", 0, offset, loanId, event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<LoanStatsEntry> upserted() {
+        ArgumentCaptor<Collection<LoanStatsEntry>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(loanStatsEntryRepository, atLeastOnce()).upsertIfNewer(captor.capture());
+        return captor.getAllValues().stream().flatMap(Collection::stream).toList();
+    }
+
+    private double consumed(LoanStatus status, String result) {
+        return registry.get("loan.events.consumed").tags("status", status.name(), "result", result).counter().count();
+    }
+
+    @Test
+    void shouldProcessBatchAndAcknowledge() {
+        consumer.listen(List.of(
+                record(0, "e1", null, LoanStatus.DRAFT),
+                record(1, "e2", LoanStatus.DRAFT, LoanStatus.SUBMITTED),
+                record(2, "e3", null, LoanStatus.DRAFT)), ack);
+
+        assertEquals(2, consumed(LoanStatus.DRAFT, "new"));
+        assertEquals(1, consumed(LoanStatus.SUBMITTED, "new"));
+        assertEquals(3, registry.get("loan.events.end.to.end").timers().stream().mapToLong(t -> t.count()).sum());
+        assertEquals(3, upserted().size());
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void shouldStoreNewestSnapshotPerLoan() {
+        // The relay can publish an older snapshot after a newer one; the version decides
+        consumer.listen(List.of(
+                record(0, "loan-1", "e1", null, LoanStatus.DRAFT, 3),
+                record(1, "loan-1", "e2", LoanStatus.DRAFT, LoanStatus.SUBMITTED, 5),
+                record(2, "loan-1", "e3", LoanStatus.SUBMITTED, LoanStatus.UNDER_REVIEW, 4)), ack);
+
+        List<LoanStatsEntry> entries = upserted();
+        assertEquals(1, entries.size());
+        LoanStatsEntry entry = entries.get(0);
+        assertEquals("loan-1", entry.getLoanId());
+        assertEquals("owner@test.com", entry.getCreatedBy());
+        assertEquals(LoanStatus.SUBMITTED, entry.getStatus());
+        assertEquals(LoanType.TERM_LOAN, entry.getLoanType());
+        assertEquals(5, entry.getVersion());
+    }
+
+    @Test
+    void shouldSkipRedeliveredEvents() {
+        consumer.listen(List.of(record(0, "e1", null, LoanStatus.DRAFT)), ack);
+        consumer.listen(List.of(record(0, "e1", null, LoanStatus.DRAFT)), ack);
+
+        assertEquals(1, consumed(LoanStatus.DRAFT, "new"));
+        assertEquals(1, consumed(LoanStatus.DRAFT, "duplicate"));
+        verify(ack, times(2)).acknowledge();
+    }
+
+    @Test
+    void shouldFailOnUnreadableRecordWithoutAcknowledging() {
+        ConsumerRecord<String, LoanEvent> poison = new ConsumerRecord<>("loan-events", 0, 1, "loan-x", null);
+
+        BatchListenerFailedException ex = assertThrows(BatchListenerFailedException.class,
+                () -> consumer.listen(List.of(record(0, "e1", null, LoanStatus.DRAFT), poison), ack));
+
+        assertEquals(1, ex.getIndex());
+        assertEquals(1, consumed(LoanStatus.DRAFT, "new"));
+        // The record before the poison one is committed, so its snapshot is stored first
+        assertEquals(List.of("loan-0"), upserted().stream().map(LoanStatsEntry::getLoanId).toList());
+        verify(ack, never()).acknowledge();
+    }
+}
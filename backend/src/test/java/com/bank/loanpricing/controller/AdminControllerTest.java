@@ -2,6 +2,7 @@ package com.bank.loanpricing.controller;
 
 import com.bank.loanpricing.model.User;
 import com.bank.loanpricing.repository.UserRepository;
+import com.bank.loanpricing.security.CustomUserDetailsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,6 +20,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +38,9 @@ class AdminControllerTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
     @InjectMocks
     private AdminController adminController;
 
@@ -67,6 +72,7 @@ class AdminControllerTest {
     void shouldUpdateUserStatus() throws Exception {
         User user = new User();
         user.setId("1");
+        user.setEmail("user@test.com");
         user.setActive(true);
 
         when(userRepository.findById("1")).thenReturn(Optional.of(user));
@@ -77,6 +83,8 @@ class AdminControllerTest {
                         .content(objectMapper.writeValueAsString(Map.of("active", false))))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.active").value(false));
+
+        verify(userDetailsService).evictUser("user@test.com");
     }
 
     @Test
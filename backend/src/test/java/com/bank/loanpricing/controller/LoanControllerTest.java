@@ -1,17 +1,25 @@
 package com.bank.loanpricing.controller;
 
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.dto.LoanStatsResponse;
 import com.bank.loanpricing.dto.PriceResponse;
 import com.bank.loanpricing.dto.SanctionRequest;
+import com.bank.loanpricing.dto.SensitivityRequest;
+import com.bank.loanpricing.dto.SensitivityResponse;
 import com.bank.loanpricing.model.Loan;
 import com.bank.loanpricing.model.LoanStatus;
 import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.service.AmortizationService;
 import com.bank.loanpricing.service.LoanService;
+import com.bank.loanpricing.service.PortfolioPricingService;
+import com.bank.loanpricing.service.SensitivityService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -20,10 +28,15 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -38,6 +51,18 @@ class LoanControllerTest {
     @Mock
     private LoanService loanService;
 
+    @Mock
+    private PortfolioPricingService portfolioPricingService;
+
+    @Mock
+    private SensitivityService sensitivityService;
+
+    @Spy
+    private AmortizationService amortizationService = new AmortizationService();
+
+    @Spy
+    private ObjectMapper exportMapper = new ObjectMapper().findAndRegisterModules();
+
     @InjectMocks
     private LoanController loanController;
 
@@ -77,6 +102,20 @@ class LoanControllerTest {
                 .andExpect(jsonPath("$.clientName").value("Test Client"));
     }
 
+    @Test
+    void shouldLimitStatsUserBreakdownToCallerForNonAdmins() throws Exception {
+        LoanStatsResponse.Totals totals = new LoanStatsResponse.Totals(1, 10000, 0);
+        Mockito.when(loanService.getLoanStats("testuser"))
+                .thenReturn(new LoanStatsResponse(totals, Map.of(LoanStatus.DRAFT, totals),
+                        Map.of(LoanType.TERM_LOAN, totals), Map.of("testuser", totals)));
+
+        mockMvc.perform(get("/api/loans/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total.count").value(1))
+                .andExpect(jsonPath("$.byStatus.DRAFT.requestedAmount").value(10000.0))
+                .andExpect(jsonPath("$.byUser.testuser.count").value(1));
+    }
+
     @Test
     void shouldGetLoanById() throws Exception {
         Mockito.when(loanService.getLoanById("1")).thenReturn(loan);
@@ -88,8 +127,7 @@ class LoanControllerTest {
 
     @Test
     void shouldCalculatePrice() throws Exception {
-        Mockito.when(loanService.getLoanById("1")).thenReturn(loan);
-        Mockito.when(loanService.calculatePrice(any(Loan.class))).thenReturn(10500.0);
+        Mockito.when(loanService.calculatePrice("1")).thenReturn(10500.0);
 
         mockMvc.perform(get("/api/loans/1/calculate-price"))
                 .andExpect(status().isOk())
@@ -158,7 +196,8 @@ class LoanControllerTest {
     void shouldGetPaginatedLoans() throws Exception {
         // Return a concrete PageImpl with a list of loans
         Mockito.when(loanService.getLoansPaginated(any(PageRequest.class)))
-                .thenReturn(new PageImpl<>(List.of(loan)));
+                .thenReturn(new PageImpl<>(List.of(new LoanResponse("1", "Test Client", LoanType.TERM_LOAN,
+                        10000, 12, LoanStatus.DRAFT, "testuser", null, false))));
 
         mockMvc.perform(get("/api/loans/paginated")
                         .param("page", "0")
@@ -167,6 +206,101 @@ class LoanControllerTest {
                 .andExpect(jsonPath("$.content[0].clientName").value("Test Client"));
     }
     
+    @Test
+    void shouldStreamLoansAsJsonArray() throws Exception {
+        Mockito.when(loanService.streamActiveLoans()).thenReturn(Stream.of(loan));
+
+        MvcResult result = mockMvc.perform(get("/api/loans"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].clientName").value("Test Client"));
+    }
+
+    @Test
+    void shouldExportLoansAsNdjson() throws Exception {
+        Loan other = new Loan();
+        other.setClientName("Other Client");
+        Mockito.when(loanService.streamActiveLoans()).thenReturn(Stream.of(loan, other));
+
+        MvcResult result = mockMvc.perform(get("/api/loans/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[1].contains("Other Client"));
+    }
+
+    @Test
+    void shouldStreamBulkPrices() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            PortfolioPricingService.PriceSink sink = invocation.getArgument(2);
+            sink.accept("1", 10500.0);
+            sink.accept("2", 22000.0);
+            return 2L;
+        }).when(portfolioPricingService).priceLoans(isNull(), eq(LoanStatus.APPROVED), any());
+
+        MvcResult result = mockMvc.perform(post("/api/loans/price")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"APPROVED\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.trim().split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"loanId\":\"2\",\"calculatedPrice\":22000.0}", lines[1]);
+    }
+
+    @Test
+    void shouldStreamAmortizationSchedule() throws Exception {
+        Mockito.when(loanService.getLoanById("1")).thenReturn(loan);
+
+        MvcResult result = mockMvc.perform(get("/api/loans/1/schedule"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows.length()").value(12))
+                .andExpect(jsonPath("$.rows[11].balance").value(0.0))
+                .andExpect(jsonPath("$.monthlyPayment").value(856.07));
+    }
+
+    @Test
+    void shouldReturnSensitivityGrid() throws Exception {
+        Mockito.when(sensitivityService.priceGrid(any(SensitivityRequest.class))).thenReturn(
+                new SensitivityResponse(new double[]{8, 9}, new int[]{12}, new double[]{10000},
+                        new double[]{10850.0, 10950.0}));
+
+        mockMvc.perform(post("/api/loans/sensitivity")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanId\":\"1\",\"rate\":{\"from\":8,\"to\":9,\"step\":1}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.prices[1]").value(10950.0))
+                .andExpect(jsonPath("$.tenures[0]").value(12));
+    }
+
+    @Test
+    void shouldRejectInvalidSensitivityRange() throws Exception {
+        mockMvc.perform(post("/api/loans/sensitivity")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"loanId\":\"1\",\"amount\":{\"from\":-5,\"to\":9,\"step\":0}}"))
+                .andExpect(status().isBadRequest());
+
+        Mockito.verifyNoInteractions(sensitivityService);
+    }
+
     @Test
     void shouldDeleteLoan() throws Exception {
         loan.setStatus(LoanStatus.DRAFT);
@@ -0,0 +1,89 @@
+package com.bank.loanpricing.controller;
+
+import com.bank.loanpricing.kafka.LoanEvent;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.stream.LoanEventStream;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class LoanEventControllerTest {
+
+    private LoanEventStream loanEventStream;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        loanEventStream = new LoanEventStream(new ObjectMapper().findAndRegisterModules(), 1, 16, 60_000);
+        mockMvc = MockMvcBuilders.standaloneSetup(new LoanEventController(loanEventStream)).build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        loanEventStream.shutdown();
+        SecurityContextHolder.clearContext();
+    }
+
+    private static void authenticate(String email, String role) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                email, null, List.of(new SimpleGrantedAuthority("ROLE_" + role))));
+    }
+
+    private static LoanEvent event(String loanId, String owner) {
+        return new LoanEvent("evt-" + loanId, loanId, owner, LoanStatus.UNDER_REVIEW, LoanStatus.APPROVED,
+                "admin-1", Instant.parse("2026-01-01T00:00:00Z"), false, null);
+    }
+
+    private MvcResult subscribe() throws Exception {
+        return mockMvc.perform(get("/api/loans/events"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @Test
+    void shouldStreamOnlyOwnLoansToUser() throws Exception {
+        authenticate("user@test.com", "USER");
+        MvcResult result = subscribe();
+
+        loanEventStream.publish(event("loan-other", "other@test.com"));
+        loanEventStream.publish(event("loan-mine", "user@test.com"));
+
+        await().untilAsserted(() -> {
+            String body = result.getResponse().getContentAsString();
+            assertTrue(body.contains("event:loan-status"));
+            assertTrue(body.contains("\"loanId\":\"loan-mine\""));
+        });
+        assertFalse(result.getResponse().getContentAsString().contains("loan-other"));
+    }
+
+    @Test
+    void shouldStreamEveryLoanToAdmin() throws Exception {
+        authenticate("admin@test.com", "ADMIN");
+        MvcResult result = subscribe();
+
+        loanEventStream.publish(event("loan-1", "a@test.com"));
+        loanEventStream.publish(event("loan-2", "b@test.com"));
+
+        await().untilAsserted(() -> {
+            String body = result.getResponse().getContentAsString();
+            assertTrue(body.contains("id:evt-loan-1"));
+            assertTrue(body.contains("id:evt-loan-2"));
+        });
+    }
+}
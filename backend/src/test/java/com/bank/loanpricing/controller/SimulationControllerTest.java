@@ -0,0 +1,56 @@
+package com.bank.loanpricing.controller;
+
+import com.bank.loanpricing.dto.RateShockRequest;
+import com.bank.loanpricing.dto.SimulationJobResponse;
+import com.bank.loanpricing.simulation.SimulationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class SimulationControllerTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private SimulationService simulationService;
+
+    @InjectMocks
+    private SimulationController simulationController;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        mockMvc = MockMvcBuilders.standaloneSetup(simulationController).build();
+    }
+
+    @Test
+    void shouldAcceptRateShockRun() throws Exception {
+        when(simulationService.submit(any(RateShockRequest.class))).thenReturn(
+                new SimulationJobResponse("job-1", "QUEUED", null, null, 50_000, 0, null, null));
+
+        mockMvc.perform(post("/api/simulations/rate-shock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"paths\":50000,\"annualVolatility\":1.5}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.id").value("job-1"))
+                .andExpect(jsonPath("$.status").value("QUEUED"));
+    }
+
+    @Test
+    void shouldRejectTooFewPaths() throws Exception {
+        mockMvc.perform(post("/api/simulations/rate-shock")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"paths\":10}"))
+                .andExpect(status().isBadRequest());
+    }
+}
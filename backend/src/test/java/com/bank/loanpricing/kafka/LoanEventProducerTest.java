@@ -0,0 +1,86 @@
+package com.bank.loanpricing.kafka;
+
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.tracing.TraceContextCarrier;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoanEventProducerTest {
+
+    @Mock
+    private KafkaTemplate<String, LoanEvent> kafkaTemplate;
+
+    private LoanEventProducer producer;
+
+    private final LoanEvent event =
+            new LoanEvent("evt-1", "loan-1", "owner@test.com", LoanStatus.DRAFT, LoanStatus.SUBMITTED, "user-1", Instant.parse("2026-01-01T00:00:00Z"), false, null);
+
+    @BeforeEach
+    void setUp() {
+        producer = new LoanEventProducer(kafkaTemplate, new TraceContextCarrier(Tracer.NOOP, Propagator.NOOP));
+    }
+
+    @Test
+    void shouldPublishKeyedByLoanId() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+
+        producer.publishEvent(event);
+
+        verify(kafkaTemplate).send(argThat((ProducerRecord<String, LoanEvent> record) ->
+                record.topic().equals("loan-events") && record.key().equals("loan-1") && record.value() == event));
+    }
+
+    @Test
+    void shouldNotThrowWhenSendFailsFast() {
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenThrow(new KafkaException("no metadata"));
+
+        CompletableFuture<?> result = assertDoesNotThrow(() -> producer.publishEvent(event));
+        assertTrue(result.isCompletedExceptionally());
+    }
+
+    @Test
+    void shouldCountPublishedEventsByStatus() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Metrics.addRegistry(registry);
+        try {
+            when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+            producer.publishEvent(event);
+
+            assertEquals(1, registry.get("loan.events.published")
+                    .tags("result", "success", "status", "SUBMITTED").counter().count());
+            assertEquals(1, registry.get("loan.events.send.latency")
+                    .tags("result", "success", "status", "SUBMITTED").timer().count());
+        } finally {
+            Metrics.removeRegistry(registry);
+        }
+    }
+
+    @Test
+    void shouldSerializeEventAsJson() {
+        String json = new String(new LoanEventSerializer().serialize("loan-events", event), StandardCharsets.UTF_8);
+
+        assertTrue(json.contains("\"eventId\":\"evt-1\""));
+        assertTrue(json.contains("\"loanId\":\"loan-1\""));
+        assertTrue(json.contains("\"status\":\"SUBMITTED\""));
+        assertTrue(json.contains("\"occurredAt\":\"2026-01-01T00:00:00Z\""));
+    }
+}
@@ -0,0 +1,138 @@
+package com.bank.loanpricing.kafka;
+
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.OutboxEvent;
+import com.bank.loanpricing.repository.LoanRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoanOutboxRelayTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Mock
+    private LoanEventProducer loanEventProducer;
+
+    @InjectMocks
+    private LoanOutboxRelay relay;
+
+    private static final String TRACEPARENT = "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "batchSize", 100);
+        ReflectionTestUtils.setField(relay, "deliveryTimeoutMs", 1000L);
+    }
+
+    private Loan loanWithOutbox(OutboxEvent... events) {
+        return loanWithOutbox("1", events);
+    }
+
+    private Loan loanWithOutbox(String id, OutboxEvent... events) {
+        Loan loan = new Loan();
+        loan.setId(id);
+        loan.setCreatedBy("owner@test.com");
+        loan.setOutbox(List.of(events));
+        return loan;
+    }
+
+    @Test
+    void shouldRemoveEventsOnceAcknowledged() {
+        OutboxEvent submitted = OutboxEvent.of(LoanStatus.DRAFT, LoanStatus.SUBMITTED, "user-1");
+        submitted.setTraceContext(Map.of("traceparent", TRACEPARENT));
+        when(loanRepository.findWithPendingEvents(100)).thenReturn(List.of(loanWithOutbox(submitted)));
+        when(loanEventProducer.publishEvent(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        // The send continues the trace of the request that wrote the outbox entry and names
+        // the loan owner so the live stream can route it
+        verify(loanEventProducer).publishEvent(argThat(e ->
+                e.eventId().equals(submitted.getEventId()) && e.loanId().equals("1")
+                        && e.createdBy().equals("owner@test.com")),
+                eq(Map.of("traceparent", TRACEPARENT)));
+        verify(loanRepository).removePendingEvents("1", List.of(submitted.getEventId()));
+    }
+
+    @Test
+    void shouldKeepFailedAndLaterEventsForRetry() {
+        OutboxEvent first = OutboxEvent.of(LoanStatus.DRAFT, LoanStatus.SUBMITTED, "user-1");
+        OutboxEvent second = OutboxEvent.of(LoanStatus.UNDER_REVIEW, LoanStatus.APPROVED, "admin-1");
+        when(loanRepository.findWithPendingEvents(100)).thenReturn(List.of(loanWithOutbox(first, second)));
+        when(loanEventProducer.publishEvent(any(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("broker down")));
+
+        relay.relay();
+
+        // The second event is not sent ahead of the first one
+        verify(loanEventProducer).publishEvent(argThat(e -> e.eventId().equals(first.getEventId())), any());
+        verify(loanEventProducer, never()).publishEvent(argThat(e -> e.eventId().equals(second.getEventId())), any());
+        verify(loanRepository, never()).removePendingEvents(anyString(), any());
+    }
+
+    @Test
+    void shouldSendLoanEventsInOrderAcrossRounds() {
+        OutboxEvent submitted = OutboxEvent.of(LoanStatus.DRAFT, LoanStatus.SUBMITTED, "user-1");
+        OutboxEvent reviewed = OutboxEvent.of(LoanStatus.SUBMITTED, LoanStatus.UNDER_REVIEW, "admin-1");
+        OutboxEvent created = OutboxEvent.of(null, LoanStatus.DRAFT, "user-2");
+        when(loanRepository.findWithPendingEvents(100)).thenReturn(List.of(
+                loanWithOutbox("1", submitted, reviewed), loanWithOutbox("2", created)));
+        when(loanEventProducer.publishEvent(any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        relay.relay();
+
+        InOrder inOrder = inOrder(loanEventProducer);
+        inOrder.verify(loanEventProducer).publishEvent(argThat(e -> e.eventId().equals(submitted.getEventId())), any());
+        inOrder.verify(loanEventProducer).publishEvent(argThat(e -> e.eventId().equals(created.getEventId())), any());
+        inOrder.verify(loanEventProducer).publishEvent(argThat(e -> e.eventId().equals(reviewed.getEventId())), any());
+        verify(loanRepository).removePendingEvents("1", List.of(submitted.getEventId(), reviewed.getEventId()));
+        verify(loanRepository).removePendingEvents("2", List.of(created.getEventId()));
+    }
+
+    @Test
+    void shouldStopSendingWhenSendFailsSynchronously() {
+        OutboxEvent first = OutboxEvent.of(LoanStatus.DRAFT, LoanStatus.SUBMITTED, "user-1");
+        OutboxEvent second = OutboxEvent.of(LoanStatus.DRAFT, LoanStatus.SUBMITTED, "user-2");
+        OutboxEvent third = OutboxEvent.of(LoanStatus.DRAFT, LoanStatus.SUBMITTED, "user-3");
+        when(loanRepository.findWithPendingEvents(100)).thenReturn(List.of(
+                loanWithOutbox("1", first), loanWithOutbox("2", second), loanWithOutbox("3", third)));
+        when(loanEventProducer.publishEvent(any(), any()))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(CompletableFuture.failedFuture(new RuntimeException("metadata not available")));
+
+        relay.relay();
+
+        // Loan 3 is left for the next run instead of blocking on another send
+        verify(loanEventProducer, times(2)).publishEvent(any(), any());
+        verify(loanRepository).removePendingEvents("1", List.of(first.getEventId()));
+        verify(loanRepository, never()).removePendingEvents(eq("2"), any());
+        verify(loanRepository, never()).removePendingEvents(eq("3"), any());
+    }
+
+    @Test
+    void shouldDoNothingWhenOutboxEmpty() {
+        when(loanRepository.findWithPendingEvents(100)).thenReturn(List.of());
+
+        relay.relay();
+
+        verifyNoInteractions(loanEventProducer);
+    }
+}
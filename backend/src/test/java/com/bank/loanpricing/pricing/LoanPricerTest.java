@@ -0,0 +1,88 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.model.Financials;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoanPricerTest {
+
+    private SpreadGridRegistry registry;
+    private LoanPricer loanPricer;
+
+    private Loan loan;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SpreadGridRegistry(
+                new ClassPathResource("pricing/spread-grid.csv"),
+                new ClassPathResource("pricing/spread-grid.csv"));
+        loanPricer = new LoanPricer(registry, List.of(
+                new TermLoanPricingStrategy(), new WorkingCapitalPricingStrategy(),
+                new OverdraftPricingStrategy(), new SmeLoanPricingStrategy()));
+
+        Financials financials = new Financials();
+        financials.setRating("B");
+
+        loan = new Loan();
+        loan.setRequestedAmount(100000);
+        loan.setProposedInterestRate(9);
+        loan.setTenureMonths(24);
+        loan.setFinancials(financials);
+    }
+
+    @Test
+    void shouldPriceTermLoanAtRatePlusSpread() {
+        loan.setLoanType(LoanType.TERM_LOAN);
+
+        // 9% + 1.25 for B over 13-36 months, repaid in 24 equal instalments
+        double emi = Annuity.emi(100000, Annuity.monthlyRate(10.25), 24);
+        assertEquals(Math.round(emi * 24 * 100.0) / 100.0, loanPricer.price(loan));
+    }
+
+    @Test
+    void shouldPriceWorkingCapitalForOneRenewalCycle() {
+        loan.setLoanType(LoanType.WORKING_CAPITAL);
+
+        assertEquals(110500, loanPricer.price(loan));
+    }
+
+    @Test
+    void shouldPriceSmeLoanAsSumOfInstalments() {
+        loan.setLoanType(LoanType.SME_LOAN);
+
+        double emi = Annuity.emi(100000, Annuity.monthlyRate(10.5), 24);
+        assertEquals(Math.round(emi * 24 * 100.0) / 100.0, loanPricer.price(loan));
+    }
+
+    @Test
+    void shouldPriceBatchAgainstOneGrid() {
+        LoanType[] types = {LoanType.TERM_LOAN, null};
+        String[] ratings = {"B", "B"};
+        double[] prices = new double[2];
+
+        loanPricer.priceAll(types, ratings, new double[]{100000, 100000}, new double[]{9, 9},
+                new int[]{24, 24}, prices, 2);
+
+        assertEquals(Math.round(Annuity.emi(100000, Annuity.monthlyRate(10.25), 24) * 24 * 100.0) / 100.0, prices[0]);
+        assertTrue(Double.isNaN(prices[1]));
+    }
+
+    @Test
+    void shouldRejectLoanWithoutType() {
+        assertThrows(BusinessException.class, () -> loanPricer.price(loan));
+    }
+
+    @Test
+    void shouldRequireStrategyForEveryLoanType() {
+        assertThrows(IllegalStateException.class,
+                () -> new LoanPricer(registry, List.of(new TermLoanPricingStrategy())));
+    }
+}
@@ -0,0 +1,107 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.Financials;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PriceCacheTest {
+
+    private SpreadGridRegistry registry;
+    private SpreadGrid grid;
+    private PriceCache priceCache;
+
+    private AtomicInteger pricings;
+    private ToDoubleFunction<Loan> pricer;
+
+    private Loan loan;
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(SpreadGridRegistry.class);
+        grid = mock(SpreadGrid.class);
+        when(registry.current()).thenReturn(grid);
+        priceCache = new PriceCache(registry, 100, 60);
+
+        pricings = new AtomicInteger();
+        pricer = l -> {
+            pricings.incrementAndGet();
+            return l.getRequestedAmount() * 1.1;
+        };
+
+        Financials financials = new Financials();
+        financials.setRating("A");
+
+        loan = new Loan();
+        loan.setId("1");
+        loan.setVersion(3L);
+        loan.setLoanType(LoanType.TERM_LOAN);
+        loan.setRequestedAmount(1000);
+        loan.setProposedInterestRate(10);
+        loan.setTenureMonths(12);
+        loan.setFinancials(financials);
+    }
+
+    @Test
+    void shouldReuseResultForSameInputs() {
+        priceCache.get(loan, pricer);
+
+        Loan twin = new Loan();
+        twin.setId("2");
+        twin.setLoanType(loan.getLoanType());
+        twin.setRequestedAmount(loan.getRequestedAmount());
+        twin.setProposedInterestRate(loan.getProposedInterestRate());
+        twin.setTenureMonths(loan.getTenureMonths());
+        twin.setFinancials(loan.getFinancials());
+
+        assertEquals(1100.0, priceCache.get(twin, pricer), 1e-9);
+        assertEquals(1, pricings.get());
+    }
+
+    @Test
+    void shouldRepriceWhenInputsChange() {
+        priceCache.get(loan, pricer);
+        loan.setRequestedAmount(2000);
+
+        assertEquals(2200.0, priceCache.get(loan, pricer), 1e-9);
+        assertEquals(2, pricings.get());
+    }
+
+    @Test
+    void shouldServeLoanOnlyAtPricedVersion() {
+        priceCache.get(loan, pricer);
+        assertEquals(1100.0, priceCache.getForLoan("1", 3L), 1e-9);
+
+        // Written since, possibly by another instance
+        assertNull(priceCache.getForLoan("1", 4L));
+        assertNull(priceCache.getForLoan("1", null));
+    }
+
+    @Test
+    void shouldIgnoreResultsFromPreviousGrid() {
+        priceCache.get(loan, pricer);
+
+        when(registry.current()).thenReturn(mock(SpreadGrid.class));
+
+        assertNull(priceCache.getForLoan("1", 3L));
+        priceCache.get(loan, pricer);
+        assertEquals(2, pricings.get());
+    }
+
+    @Test
+    void shouldSpreadKeysForNearbyInputs() {
+        long a = PriceCache.key(LoanType.TERM_LOAN, "A", 1000, 10, 12);
+        long b = PriceCache.key(LoanType.TERM_LOAN, "A", 1000, 10, 13);
+        long c = PriceCache.key(LoanType.SME_LOAN, "A", 1000, 10, 12);
+
+        assertNotEquals(a, b);
+        assertNotEquals(a, c);
+    }
+}
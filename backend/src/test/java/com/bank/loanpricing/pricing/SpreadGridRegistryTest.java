@@ -0,0 +1,84 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.LoanType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpreadGridRegistryTest {
+
+    private static final Resource BUNDLED = new ClassPathResource("pricing/spread-grid.csv");
+
+    @TempDir
+    Path dir;
+
+    private static String grid(double spread) {
+        StringBuilder csv = new StringBuilder("tenure,360\n");
+        for (LoanType type : LoanType.values()) {
+            csv.append(type).append(",NR,").append(spread).append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static void write(Path file, String content, Instant modified) throws Exception {
+        Files.writeString(file, content);
+        Files.setLastModifiedTime(file, FileTime.from(modified));
+    }
+
+    @Test
+    void shouldSwapInChangedGrid() throws Exception {
+        Path file = dir.resolve("grid.csv");
+        write(file, grid(1.0), Instant.parse("2024-01-01T00:00:00Z"));
+        SpreadGridRegistry registry = new SpreadGridRegistry(new FileSystemResource(file), BUNDLED);
+        SpreadGrid before = registry.current();
+
+        write(file, grid(2.0), Instant.parse("2024-01-02T00:00:00Z"));
+        registry.reloadIfChanged();
+
+        assertNotSame(before, registry.current());
+        assertEquals(2.0, registry.current().spread(LoanType.TERM_LOAN, "NR", 12));
+    }
+
+    @Test
+    void shouldKeepPreviousGridWhenReloadIsInvalid() throws Exception {
+        Path file = dir.resolve("grid.csv");
+        write(file, grid(1.0), Instant.parse("2024-01-01T00:00:00Z"));
+        SpreadGridRegistry registry = new SpreadGridRegistry(new FileSystemResource(file), BUNDLED);
+
+        write(file, "tenure,360\nTERM_LOAN,NR,2.0\n", Instant.parse("2024-01-02T00:00:00Z"));
+        registry.reloadIfChanged();
+
+        assertEquals(1.0, registry.current().spread(LoanType.TERM_LOAN, "NR", 12));
+    }
+
+    @Test
+    void shouldFailStartupOnInvalidGrid() throws Exception {
+        Path file = dir.resolve("grid.csv");
+        Files.writeString(file, "not a grid\n");
+
+        assertThrows(IllegalStateException.class,
+                () -> new SpreadGridRegistry(new FileSystemResource(file), BUNDLED));
+    }
+
+    @Test
+    void shouldUseBundledGridUntilExternalFileAppears() throws Exception {
+        Path file = dir.resolve("grid.csv");
+        SpreadGridRegistry registry = new SpreadGridRegistry(new FileSystemResource(file), BUNDLED);
+        SpreadGrid bundled = registry.current();
+
+        write(file, grid(3.0), Instant.parse("2024-01-01T00:00:00Z"));
+        registry.reloadIfChanged();
+
+        assertNotSame(bundled, registry.current());
+        assertEquals(3.0, registry.current().spread(LoanType.TERM_LOAN, "NR", 12));
+    }
+}
@@ -0,0 +1,57 @@
+package com.bank.loanpricing.pricing;
+
+import com.bank.loanpricing.model.LoanType;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpreadGridTest {
+
+    private static SpreadGrid parse(String csv) throws Exception {
+        return SpreadGrid.parse(new BufferedReader(new StringReader(csv)));
+    }
+
+    private static String grid(String extraRows) {
+        StringBuilder csv = new StringBuilder("tenure,12,60 # months\n");
+        for (LoanType type : LoanType.values()) {
+            csv.append(type).append(",A,0.5,1.0\n");
+            csv.append(type).append(",NR,4.0,4.5\n");
+        }
+        return csv.append(extraRows).toString();
+    }
+
+    @Test
+    void shouldLookUpSpreadByTypeRatingAndTenureBucket() throws Exception {
+        SpreadGrid grid = parse(grid(""));
+
+        assertEquals(0.5, grid.spread(LoanType.TERM_LOAN, "A", 12));
+        assertEquals(1.0, grid.spread(LoanType.TERM_LOAN, " a ", 13));
+        // Past the last bound the last bucket applies
+        assertEquals(1.0, grid.spread(LoanType.TERM_LOAN, "A", 240));
+    }
+
+    @Test
+    void shouldFallBackToUnratedForMissingOrUnknownRatings() throws Exception {
+        SpreadGrid grid = parse(grid(""));
+
+        assertEquals(4.0, grid.spread(LoanType.SME_LOAN, null, 6));
+        assertEquals(4.5, grid.spread(LoanType.SME_LOAN, "ZZZ", 60));
+    }
+
+    @Test
+    void shouldRejectIncompleteGrid() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> parse(grid("TERM_LOAN,B,1.0,1.5\n")));
+
+        assertTrue(ex.getMessage().startsWith("Missing spreads for"));
+    }
+
+    @Test
+    void shouldRejectGridWithoutUnratedRow() {
+        assertThrows(IllegalArgumentException.class,
+                () -> parse("tenure,12\nTERM_LOAN,A,0.5\n"));
+    }
+}
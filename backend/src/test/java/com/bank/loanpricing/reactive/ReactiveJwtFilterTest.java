@@ -0,0 +1,113 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.model.Role;
+import com.bank.loanpricing.model.User;
+import com.bank.loanpricing.security.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReactiveJwtFilterTest {
+
+    private JwtUtil jwtUtil;
+    private ReactiveUserRepository userRepository;
+    private ReactiveJwtFilter filter;
+
+    // Authentication seen by the rest of the chain, or null if the request went through unauthenticated
+    private final AtomicReference<Authentication> seen = new AtomicReference<>();
+    private final WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .doOnNext(seen::set)
+            .then();
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "loanPricingSecretKeyloanPricingSecretKey");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+
+        userRepository = mock(ReactiveUserRepository.class);
+        filter = new ReactiveJwtFilter(jwtUtil, new ReactivePrincipalService(userRepository, 60, 100));
+    }
+
+    private User user(boolean active) {
+        return User.builder()
+                .id("u-1")
+                .email("user@test.com")
+                .password("hash")
+                .role(Role.USER)
+                .active(active)
+                .build();
+    }
+
+    private void filter(String authorization) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/api/users/me");
+        if (authorization != null) {
+            request.header("Authorization", authorization);
+        }
+        filter.filter(MockServerWebExchange.from(request), chain).block();
+    }
+
+    @Test
+    void shouldAuthenticateValidToken() {
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Mono.just(user(true)));
+
+        filter("Bearer " + jwtUtil.generateToken(user(true)));
+
+        Authentication authentication = seen.get();
+        assertNotNull(authentication);
+        assertEquals("user@test.com", authentication.getName());
+        assertEquals("u-1", authentication.getDetails());
+        assertTrue(authentication.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_USER")));
+    }
+
+    @Test
+    void shouldCachePrincipalAcrossRequests() {
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Mono.just(user(true)));
+        String token = "Bearer " + jwtUtil.generateToken(user(true));
+
+        filter(token);
+        filter(token);
+
+        verify(userRepository, times(1)).findByEmail("user@test.com");
+    }
+
+    @Test
+    void shouldLeaveRequestUnauthenticatedWithoutToken() {
+        filter(null);
+
+        assertNull(seen.get());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldLeaveRequestUnauthenticatedForInvalidToken() {
+        filter("Bearer not-a-jwt");
+
+        assertNull(seen.get());
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    void shouldLeaveRequestUnauthenticatedForInactiveUser() {
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Mono.just(user(false)));
+
+        filter("Bearer " + jwtUtil.generateToken(user(false)));
+
+        assertNull(seen.get());
+    }
+}
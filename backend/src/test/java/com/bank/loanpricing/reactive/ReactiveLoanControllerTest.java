@@ -0,0 +1,111 @@
+package com.bank.loanpricing.reactive;
+
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+class ReactiveLoanControllerTest {
+
+    private ReactiveLoanRepository loanRepository;
+    private WebTestClient client;
+
+    @BeforeEach
+    void setUp() {
+        loanRepository = mock(ReactiveLoanRepository.class);
+        client = WebTestClient.bindToController(new ReactiveLoanController(loanRepository)).build();
+    }
+
+    private static LoanResponse summary(String id, LoanStatus status) {
+        return new LoanResponse(id, "Client " + id, LoanType.TERM_LOAN, 500000, 24, status,
+                "user@test.com", Instant.parse("2026-01-01T00:00:00Z"), false);
+    }
+
+    @Test
+    void shouldReturnLoanById() {
+        Loan loan = new Loan();
+        loan.setId("loan-1");
+        loan.setClientName("ABC Corp");
+        when(loanRepository.findById("loan-1")).thenReturn(Mono.just(loan));
+
+        client.get().uri("/api/loans/loan-1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.clientName").isEqualTo("ABC Corp");
+    }
+
+    @Test
+    void shouldReturnNotFoundForMissingLoan() {
+        when(loanRepository.findById("missing")).thenReturn(Mono.empty());
+
+        client.get().uri("/api/loans/missing")
+                .exchange()
+                .expectStatus().isNotFound();
+    }
+
+    @Test
+    void shouldReturnPageOfSummaries() {
+        when(loanRepository.findSummariesBy(PageRequest.of(1, 2)))
+                .thenReturn(Flux.just(summary("l3", LoanStatus.DRAFT), summary("l4", LoanStatus.SUBMITTED)));
+        when(loanRepository.count()).thenReturn(Mono.just(5L));
+
+        client.get().uri("/api/loans/paginated?page=1&size=2")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].id").isEqualTo("l3")
+                .jsonPath("$.totalElements").isEqualTo(5)
+                .jsonPath("$.totalPages").isEqualTo(3);
+    }
+
+    @Test
+    void shouldReturnPageByStatus() {
+        when(loanRepository.findSummariesByStatus(LoanStatus.SUBMITTED, PageRequest.of(0, 10)))
+                .thenReturn(Flux.just(summary("l1", LoanStatus.SUBMITTED)));
+        when(loanRepository.countByStatus(LoanStatus.SUBMITTED)).thenReturn(Mono.just(1L));
+
+        client.get().uri("/api/loans/status/SUBMITTED")
+                .accept(MediaType.APPLICATION_JSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[0].status").isEqualTo("SUBMITTED")
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    void shouldStreamSummariesAsNdjson() {
+        when(loanRepository.findSummariesByStatus(LoanStatus.DRAFT, PageRequest.of(0, 3)))
+                .thenReturn(Flux.just(summary("l1", LoanStatus.DRAFT), summary("l2", LoanStatus.DRAFT)));
+
+        List<LoanResponse> rows = client.get().uri("/api/loans/status/DRAFT?size=3")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(LoanResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(List.of("l1", "l2"), rows.stream().map(LoanResponse::getId).toList());
+        // The stream needs no total, so no count query
+        verify(loanRepository, never()).countByStatus(any());
+    }
+}
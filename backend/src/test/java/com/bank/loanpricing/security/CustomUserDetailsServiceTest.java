@@ -0,0 +1,58 @@
+package com.bank.loanpricing.security;
+
+import com.bank.loanpricing.model.Role;
+import com.bank.loanpricing.model.User;
+import com.bank.loanpricing.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class CustomUserDetailsServiceTest {
+
+    private UserRepository userRepository;
+    private CustomUserDetailsService userDetailsService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        userDetailsService = new CustomUserDetailsService(userRepository, 60, 100);
+
+        user = User.builder()
+                .id("1")
+                .email("user@test.com")
+                .password("$2a$encoded")
+                .role(Role.USER)
+                .active(true)
+                .build();
+    }
+
+    @Test
+    void shouldServeRepeatedLookupsFromCache() {
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+
+        UserDetails first = userDetailsService.loadUserByUsername("user@test.com");
+        UserDetails second = userDetailsService.loadUserByUsername("user@test.com");
+
+        assertSame(first, second);
+        verify(userRepository, times(1)).findByEmail("user@test.com");
+    }
+
+    @Test
+    void shouldRejectDeactivatedUserAfterEviction() {
+        when(userRepository.findByEmail("user@test.com")).thenReturn(Optional.of(user));
+        userDetailsService.loadUserByUsername("user@test.com");
+
+        user.setActive(false);
+        userDetailsService.evictUser("user@test.com");
+
+        assertThrows(RuntimeException.class,
+                () -> userDetailsService.loadUserByUsername("user@test.com"));
+    }
+}
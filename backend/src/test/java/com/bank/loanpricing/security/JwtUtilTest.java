@@ -0,0 +1,64 @@
+package com.bank.loanpricing.security;
+
+import com.bank.loanpricing.model.Role;
+import com.bank.loanpricing.model.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtUtilTest {
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "loanPricingSecretKeyloanPricingSecretKey");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3_600_000L);
+        ReflectionTestUtils.setField(jwtUtil, "claimsCacheMaxSize", 100L);
+        jwtUtil.init();
+    }
+
+    private User user() {
+        return User.builder()
+                .id("u-1")
+                .email("user@test.com")
+                .role(Role.USER)
+                .build();
+    }
+
+    @Test
+    void shouldParseClaimsFromGeneratedToken() {
+        String token = jwtUtil.generateToken(user());
+
+        Claims claims = jwtUtil.parseClaims(token);
+
+        assertEquals("user@test.com", claims.getSubject());
+        assertEquals("u-1", claims.get("userId", String.class));
+        assertEquals("USER", claims.get("role", String.class));
+        assertEquals("user@test.com", jwtUtil.extractEmail(token));
+        assertEquals("u-1", jwtUtil.extractUserId(token));
+    }
+
+    @Test
+    void shouldServeRepeatedTokenFromCache() {
+        String token = jwtUtil.generateToken(user());
+
+        Claims first = jwtUtil.parseClaims(token);
+        Claims second = jwtUtil.parseClaims(token);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void shouldRejectTamperedToken() {
+        String token = jwtUtil.generateToken(user());
+        String tampered = token.substring(0, token.length() - 2) + "xx";
+
+        assertThrows(JwtException.class, () -> jwtUtil.parseClaims(tampered));
+    }
+}
@@ -0,0 +1,85 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.dto.AmortizationSummary;
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.pricing.TermLoanPricingStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AmortizationServiceTest {
+
+    private AmortizationService amortizationService;
+
+    private Loan loan;
+
+    @BeforeEach
+    void setUp() {
+        amortizationService = new AmortizationService();
+
+        loan = new Loan();
+        loan.setId("1");
+        loan.setLoanType(LoanType.TERM_LOAN);
+        loan.setRequestedAmount(100000);
+        loan.setProposedInterestRate(12);
+        loan.setTenureMonths(12);
+    }
+
+    @Test
+    void shouldSummarizeInClosedForm() {
+        AmortizationSummary summary = amortizationService.summarize(loan);
+
+        assertEquals(8884.88, summary.getMonthlyPayment());
+        assertEquals(106618.55, summary.getTotalPayment());
+        assertEquals(6618.55, summary.getTotalInterest());
+    }
+
+    @Test
+    void shouldBuildScheduleThatPaysOffBalance() throws Exception {
+        List<double[]> rows = new ArrayList<>();
+        double payment = amortizationService.forEachRow(loan,
+                (month, pay, principal, interest, balance) -> rows.add(new double[]{month, principal, interest, balance}));
+
+        assertEquals(8884.88, payment);
+        assertEquals(12, rows.size());
+        assertEquals(1000.0, rows.get(0)[2]);
+        assertEquals(0.0, rows.get(11)[3]);
+        assertEquals(100000.0, rows.stream().mapToDouble(r -> r[1]).sum(), 0.05);
+    }
+
+    @Test
+    void shouldTotalWhatTheTermLoanIsPricedAt() {
+        double price = new TermLoanPricingStrategy().price(100000, 12, 12);
+
+        assertEquals(amortizationService.summarize(loan).getTotalPayment(), price, 0.005);
+    }
+
+    @Test
+    void shouldPreferSanctionedTerms() {
+        loan.setSanctionedAmount(50000.0);
+        loan.setApprovedInterestRate(0.0);
+
+        AmortizationSummary summary = amortizationService.summarize(loan);
+
+        assertEquals(50000.0 / 12, summary.getMonthlyPayment(), 0.01);
+        assertEquals(0.0, summary.getTotalInterest());
+    }
+
+    @Test
+    void shouldRejectNonAmortizingLoanTypes() {
+        loan.setLoanType(LoanType.OVERDRAFT);
+        assertThrows(BusinessException.class, () -> amortizationService.summarize(loan));
+    }
+
+    @Test
+    void shouldRejectTenureBeyondLimit() {
+        loan.setTenureMonths(361);
+        assertThrows(BusinessException.class, () -> amortizationService.summarize(loan));
+    }
+}
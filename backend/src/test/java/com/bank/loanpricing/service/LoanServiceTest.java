@@ -1,27 +1,59 @@
 package com.bank.loanpricing.service;
 
+import com.bank.loanpricing.dto.CursorPage;
+import com.bank.loanpricing.dto.LoanResponse;
+import com.bank.loanpricing.dto.LoanStatsResponse;
 import com.bank.loanpricing.dto.SanctionRequest;
 import com.bank.loanpricing.exception.BusinessException;
-import com.bank.loanpricing.kafka.LoanEventProducer;
 import com.bank.loanpricing.model.Financials;
 import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanAction;
 import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.pricing.LoanPricer;
+import com.bank.loanpricing.pricing.OverdraftPricingStrategy;
+import com.bank.loanpricing.pricing.PriceCache;
+import com.bank.loanpricing.pricing.SmeLoanPricingStrategy;
+import com.bank.loanpricing.pricing.SpreadGridRegistry;
+import com.bank.loanpricing.pricing.TermLoanPricingStrategy;
+import com.bank.loanpricing.pricing.WorkingCapitalPricingStrategy;
+import com.bank.loanpricing.repository.LoanActionRepository;
 import com.bank.loanpricing.repository.LoanRepository;
+import com.bank.loanpricing.model.OutboxEvent;
+import com.bank.loanpricing.tracing.TraceContextCarrier;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.bson.Document;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.ArrayList;
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +63,30 @@ class LoanServiceTest {
     private LoanRepository loanRepository;
 
     @Mock
-    private LoanEventProducer loanEventProducer;
+    private LoanActionRepository loanActionRepository;
+
+    @Spy
+    private LoanPricer loanPricer = new LoanPricer(
+            new SpreadGridRegistry(
+                    new ClassPathResource("pricing/spread-grid.csv"),
+                    new ClassPathResource("pricing/spread-grid.csv")),
+            List.of(new TermLoanPricingStrategy(), new WorkingCapitalPricingStrategy(),
+                    new OverdraftPricingStrategy(), new SmeLoanPricingStrategy()));
+
+    @Mock
+    private PriceCache priceCache;
+
+    @Mock
+    private TraceContextCarrier traceContextCarrier;
+
+    @Spy
+    private LoanStatsTable loanStatsTable = new LoanStatsTable();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // Observations feed loan.service timers into meterRegistry
+    @Spy
+    private ObservationRegistry observationRegistry = observationRegistry(meterRegistry);
 
     @InjectMocks
     private LoanService loanService;
@@ -50,7 +105,6 @@ class LoanServiceTest {
         loan.setRequestedAmount(100000);
         loan.setProposedInterestRate(10);
         loan.setTenureMonths(12);
-        loan.setActions(new ArrayList<>());
         return loan;
     }
 
@@ -62,6 +116,12 @@ class LoanServiceTest {
         return f;
     }
 
+    // Kafka events must be written in the same update as the status change
+    private static boolean pushesOutboxEvent(Update update) {
+        Document push = (Document) update.getUpdateObject().get("$push");
+        return push != null && push.containsKey("outbox");
+    }
+
     // ---------- CREATE ----------
     @Test
     void shouldCreateLoan() {
@@ -78,14 +138,51 @@ class LoanServiceTest {
     @Test
     void shouldCalculatePrice() {
         Loan loan = createLoan(LoanStatus.DRAFT);
-        assertEquals(110000, loanService.calculatePrice(loan));
+        loan.setLoanType(LoanType.TERM_LOAN);
+        loan.setFinancials(validFinancials());
+
+        // 10% proposed + 0.50 spread for an A-rated term loan up to 12 months, as 12 EMIs
+        assertEquals(105778.32, loanService.calculatePrice(loan));
+    }
+
+    @Test
+    void shouldServeCachedPriceWithoutLoadingLoan() {
+        when(loanRepository.findVersion("1")).thenReturn(3L);
+        when(priceCache.getForLoan("1", 3L)).thenReturn(110500.0);
+
+        assertEquals(110500, loanService.calculatePrice("1"));
+        verify(loanRepository, never()).findById(any());
+
+        // Hits are timed too, without the loan's type and status
+        Timer timer = meterRegistry.find("loan.service")
+                .tags("operation", "price", "loan_type", "none", "status", "none", "outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void shouldPriceThroughCacheOnMiss() {
+        Loan loan = createLoan(LoanStatus.DRAFT);
+        when(loanRepository.findVersion("1")).thenReturn(4L);
+        when(priceCache.getForLoan("1", 4L)).thenReturn(null);
+        when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
+        when(priceCache.get(eq(loan), any())).thenReturn(110500.0);
+
+        assertEquals(110500, loanService.calculatePrice("1"));
+        assertNotNull(meterRegistry.find("loan.service")
+                .tags("operation", "price", "status", "DRAFT", "outcome", "success")
+                .timer());
     }
 
     // ---------- READ ----------
     @Test
-    void shouldReturnAllLoans() {
-        when(loanRepository.findAll()).thenReturn(List.of(new Loan(), new Loan()));
-        assertEquals(2, loanService.getAllLoans().size());
+    void shouldStreamActiveLoans() {
+        when(loanRepository.streamActiveLoans()).thenReturn(Stream.of(new Loan(), new Loan()));
+
+        try (Stream<Loan> loans = loanService.streamActiveLoans()) {
+            assertEquals(2, loans.count());
+        }
     }
 
     @Test
@@ -97,21 +194,25 @@ class LoanServiceTest {
     // ---------- SUBMIT ----------
     @Test
     void shouldSubmitLoan() {
-        Loan loan = createLoan(LoanStatus.DRAFT);
+        Loan loan = createLoan(LoanStatus.SUBMITTED);
         loan.setFinancials(validFinancials());
 
-        when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
-        when(loanRepository.save(any())).thenReturn(loan);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.DRAFT), any(), any(Update.class)))
+                .thenReturn(Optional.of(loan));
 
         Loan result = loanService.submitLoan("1");
 
         assertEquals(LoanStatus.SUBMITTED, result.getStatus());
-        verify(loanEventProducer).publishEvent(any());
+        verify(loanRepository, never()).save(any());
+        verify(loanRepository).transitionIfStatus(eq("1"), eq(LoanStatus.DRAFT), any(), argThat(LoanServiceTest::pushesOutboxEvent));
+        verify(loanActionRepository).insert(any(LoanAction.class));
     }
 
     @Test
     void shouldFailSubmitIfNotDraft() {
         Loan loan = createLoan(LoanStatus.APPROVED);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.DRAFT), any(), any(Update.class)))
+                .thenReturn(Optional.empty());
         when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
 
         assertThrows(BusinessException.class,
@@ -121,18 +222,32 @@ class LoanServiceTest {
     @Test
     void shouldFailSubmitWithoutFinancials() {
         Loan loan = createLoan(LoanStatus.DRAFT);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.DRAFT), any(), any(Update.class)))
+                .thenReturn(Optional.empty());
         when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
 
-        assertThrows(BusinessException.class,
+        BusinessException ex = assertThrows(BusinessException.class,
+                () -> loanService.submitLoan("1"));
+        assertEquals("Financial details are mandatory before submission", ex.getMessage());
+    }
+
+    @Test
+    void shouldFailSubmitIfLoanMissing() {
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.DRAFT), any(), any(Update.class)))
+                .thenReturn(Optional.empty());
+        when(loanRepository.findById("1")).thenReturn(Optional.empty());
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
                 () -> loanService.submitLoan("1"));
+        assertEquals("Loan not found", ex.getMessage());
     }
 
     // ---------- UNDER REVIEW ----------
     @Test
     void shouldMoveToUnderReview() {
-        Loan loan = createLoan(LoanStatus.SUBMITTED);
-        when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
-        when(loanRepository.save(any())).thenReturn(loan);
+        Loan loan = createLoan(LoanStatus.UNDER_REVIEW);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.SUBMITTED), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(loan));
 
         Loan result = loanService.markUnderReview("1");
         assertEquals(LoanStatus.UNDER_REVIEW, result.getStatus());
@@ -141,6 +256,8 @@ class LoanServiceTest {
     @Test
     void shouldFailUnderReviewIfWrongStatus() {
         Loan loan = createLoan(LoanStatus.DRAFT);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.SUBMITTED), isNull(), any(Update.class)))
+                .thenReturn(Optional.empty());
         when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
 
         assertThrows(RuntimeException.class,
@@ -150,53 +267,161 @@ class LoanServiceTest {
     // ---------- APPROVE ----------
     @Test
     void shouldApproveLoan() {
-        Loan loan = createLoan(LoanStatus.UNDER_REVIEW);
-        when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
-        when(loanRepository.save(any())).thenReturn(loan);
+        Loan loan = createLoan(LoanStatus.APPROVED);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(loan));
 
         Loan result = loanService.approveLoan("1");
 
         assertEquals(LoanStatus.APPROVED, result.getStatus());
-        verify(loanEventProducer).publishEvent(any());
+        verify(loanRepository).transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), argThat(LoanServiceTest::pushesOutboxEvent));
+    }
+
+    @Test
+    void shouldSetApprovalFieldsInSingleUpdate() {
+        Loan loan = createLoan(LoanStatus.APPROVED);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), update.capture()))
+                .thenReturn(Optional.of(loan));
+
+        loanService.approveLoan("1");
+
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals(LoanStatus.APPROVED, set.get("status"));
+        assertEquals("test-user", set.get("approvedBy"));
     }
 
     // ---------- REJECT ----------
     @Test
     void shouldRejectLoan() {
-        Loan loan = createLoan(LoanStatus.UNDER_REVIEW);
-        when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
-        when(loanRepository.save(any())).thenReturn(loan);
+        Loan loan = createLoan(LoanStatus.REJECTED);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(loan));
 
         Loan result = loanService.rejectLoan("1", "Docs missing");
 
         assertEquals(LoanStatus.REJECTED, result.getStatus());
-        verify(loanEventProducer).publishEvent(any());
+        verify(loanRepository).transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), argThat(LoanServiceTest::pushesOutboxEvent));
     }
 
     @Test
     void shouldFailRejectWithoutReason() {
-        Loan loan = createLoan(LoanStatus.UNDER_REVIEW);
-        when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
-
         assertThrows(BusinessException.class,
                 () -> loanService.rejectLoan("1", ""));
+        verifyNoInteractions(loanRepository);
     }
 
     // ---------- SANCTION ----------
     @Test
     void shouldSanctionLoan() {
         Loan loan = createLoan(LoanStatus.UNDER_REVIEW);
+        loan.setSanctionedAmount(50000.0);
         SanctionRequest req = new SanctionRequest();
         req.setSanctionedAmount(50000.0);
         req.setApprovedInterestRate(9.5);
 
-        when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
-        when(loanRepository.save(any())).thenReturn(loan);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(loan));
 
         Loan result = loanService.sanctionLoan("1", req);
         assertEquals(50000.0, result.getSanctionedAmount());
     }
 
+    // ---------- LIST ----------
+    private static LoanResponse summary(String id, Instant createdAt) {
+        return new LoanResponse(id, "Client " + id, LoanType.TERM_LOAN, 100000, 12,
+                LoanStatus.DRAFT, "user1", createdAt, false);
+    }
+
+    @Test
+    void shouldListProjectedSummaries() {
+        PageRequest pageable = PageRequest.of(0, 10);
+        Page<LoanResponse> rows = new PageImpl<>(List.of(summary("1", Instant.now())));
+        when(loanRepository.findSummariesByStatus(LoanStatus.DRAFT, pageable)).thenReturn(rows);
+
+        assertSame(rows, loanService.getLoansByStatus(LoanStatus.DRAFT, pageable));
+        verify(loanRepository, never()).findAll(any(PageRequest.class));
+    }
+
+    // ---------- KEYSET PAGINATION ----------
+    @Test
+    void shouldReturnNextCursorWhenMoreRowsExist() {
+        LoanResponse first = summary("1", Instant.parse("2026-01-02T00:00:00Z"));
+        LoanResponse second = summary("2", Instant.parse("2026-01-01T00:00:00Z"));
+
+        when(loanRepository.findPageAfter(null, null, null, 2)).thenReturn(List.of(first, second));
+
+        CursorPage<LoanResponse> page = loanService.getLoansByCursor(null, null, 1, false);
+
+        assertEquals(1, page.getContent().size());
+        assertTrue(page.isHasNext());
+        assertNotNull(page.getNextCursor());
+        assertNull(page.getTotalElements());
+        verify(loanRepository, never()).count();
+
+        // Following the cursor seeks past the last row instead of skipping
+        when(loanRepository.findPageAfter(null, first.getCreatedAt(), "1", 2)).thenReturn(List.of(second));
+
+        CursorPage<LoanResponse> next = loanService.getLoansByCursor(null, page.getNextCursor(), 1, false);
+
+        assertEquals("2", next.getContent().get(0).getId());
+        assertFalse(next.isHasNext());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void shouldSeekWithinUndatedLoansWhenLastRowHasNoCreatedAt() {
+        LoanResponse dated = summary("1", Instant.parse("2026-01-02T00:00:00Z"));
+        LoanResponse undated = summary("2", null);
+        LoanResponse older = summary("0", null);
+
+        when(loanRepository.findPageAfter(null, null, null, 3)).thenReturn(List.of(dated, undated, older));
+
+        CursorPage<LoanResponse> page = loanService.getLoansByCursor(null, null, 2, false);
+
+        assertTrue(page.isHasNext());
+
+        // The cursor keeps "no createdAt" rather than collapsing it to the epoch
+        when(loanRepository.findPageAfter(null, null, "2", 3)).thenReturn(List.of(older));
+
+        CursorPage<LoanResponse> next = loanService.getLoansByCursor(null, page.getNextCursor(), 2, false);
+
+        assertEquals("0", next.getContent().get(0).getId());
+        verify(loanRepository).findPageAfter(null, null, "2", 3);
+    }
+
+    @Test
+    void shouldCountOnlyWhenTotalRequested() {
+        when(loanRepository.findPageAfter(LoanStatus.SUBMITTED, null, null, 11)).thenReturn(List.of());
+        when(loanRepository.countByStatus(LoanStatus.SUBMITTED)).thenReturn(42L);
+
+        CursorPage<LoanResponse> page = loanService.getLoansByCursor(LoanStatus.SUBMITTED, null, 10, true);
+
+        assertEquals(42L, page.getTotalElements());
+    }
+
+    @Test
+    void shouldRejectMalformedCursor() {
+        assertThrows(BusinessException.class,
+                () -> loanService.getLoansByCursor(null, "not-a-cursor", 10, false));
+    }
+
+    // ---------- HISTORY ----------
+    @Test
+    void shouldReturnLoanHistory() {
+        LoanAction action = new LoanAction();
+        action.setLoanId("1");
+        action.setAction("CREATED");
+
+        when(loanActionRepository.findByLoanIdOrderByTimestampDesc(eq("1"), any()))
+                .thenReturn(new PageImpl<>(List.of(action)));
+
+        Page<LoanAction> history = loanService.getLoanHistory("1", PageRequest.of(0, 20));
+
+        assertEquals(1, history.getTotalElements());
+        assertEquals("CREATED", history.getContent().get(0).getAction());
+    }
+
     // ---------- DELETE ----------
     @Test
     void shouldSoftDeleteLoan() {
@@ -207,5 +432,138 @@ class LoanServiceTest {
         Loan result = loanService.softDeleteLoan("1");
 
         assertTrue(result.isDeleted());
+        // Saved with the loan, so the stats projection learns about the delete
+        OutboxEvent deleted = result.getOutbox().get(result.getOutbox().size() - 1);
+        assertTrue(deleted.isDeleted());
+        assertEquals(LoanStatus.DRAFT, deleted.getStatus());
+    }
+
+    // ---------- STATS ----------
+    private Loan statsLoan(LoanStatus status, LoanType type, double amount) {
+        Loan loan = createLoan(status);
+        loan.setCreatedBy("user1");
+        loan.setLoanType(type);
+        loan.setRequestedAmount(amount);
+        return loan;
+    }
+
+    @Test
+    void shouldCountCreatedLoanInStats() {
+        when(loanRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+        loanService.createLoan(statsLoan(null, LoanType.TERM_LOAN, 100000), "user1");
+
+        LoanStatsResponse stats = loanService.getLoanStats(null);
+        assertEquals(1, stats.getByStatus().get(LoanStatus.DRAFT).getCount());
+        assertEquals(100000, stats.getByType().get(LoanType.TERM_LOAN).getRequestedAmount());
+        assertEquals(1, stats.getByUser().get("user1").getCount());
+    }
+
+    @Test
+    void shouldMoveStatsAndCountSanctionOnApproval() {
+        loanStatsTable.add(statsLoan(LoanStatus.UNDER_REVIEW, LoanType.TERM_LOAN, 100000));
+        Loan approved = statsLoan(LoanStatus.APPROVED, LoanType.TERM_LOAN, 100000);
+        approved.setSanctionedAmount(80000.0);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(approved));
+
+        loanService.approveLoan("1");
+
+        LoanStatsResponse stats = loanService.getLoanStats(null);
+        assertEquals(0, stats.getByStatus().get(LoanStatus.UNDER_REVIEW).getCount());
+        assertEquals(1, stats.getByStatus().get(LoanStatus.APPROVED).getCount());
+        assertEquals(80000, stats.getTotal().getSanctionedAmount());
+    }
+
+    @Test
+    void shouldReplaceStatsWhenLoanIsEdited() {
+        Loan stored = statsLoan(LoanStatus.DRAFT, LoanType.TERM_LOAN, 100000);
+        loanStatsTable.add(stored);
+        Loan edited = statsLoan(LoanStatus.DRAFT, LoanType.OVERDRAFT, 150000);
+        when(loanRepository.replaceIfVersion(edited)).thenReturn(Optional.of(stored));
+
+        loanService.saveLoan(edited);
+
+        // The before-image comes back from the replace itself
+        verify(loanRepository, never()).findById(any());
+
+        LoanStatsResponse stats = loanService.getLoanStats(null);
+        assertEquals(0, stats.getByType().get(LoanType.TERM_LOAN).getCount());
+        assertEquals(150000, stats.getByType().get(LoanType.OVERDRAFT).getRequestedAmount());
+        assertEquals(1, stats.getTotal().getCount());
+        // An edit keeps the status but still goes through the outbox for the projection
+        OutboxEvent updated = edited.getOutbox().get(0);
+        assertEquals(LoanStatus.DRAFT, updated.getPreviousStatus());
+        assertEquals(LoanStatus.DRAFT, updated.getStatus());
+    }
+
+    @Test
+    void shouldRejectEditOfConcurrentlyModifiedLoan() {
+        Loan edited = statsLoan(LoanStatus.DRAFT, LoanType.OVERDRAFT, 150000);
+        when(loanRepository.replaceIfVersion(edited)).thenReturn(Optional.empty());
+
+        assertThrows(OptimisticLockingFailureException.class, () -> loanService.saveLoan(edited));
+        assertEquals(0, loanService.getLoanStats(null).getTotal().getCount());
+    }
+
+    @Test
+    void shouldDropDeletedLoanFromStats() {
+        Loan loan = statsLoan(LoanStatus.DRAFT, LoanType.TERM_LOAN, 100000);
+        loanStatsTable.add(loan);
+        when(loanRepository.findById("1")).thenReturn(Optional.of(loan));
+        when(loanRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+
+        loanService.softDeleteLoan("1");
+        loanService.softDeleteLoan("1");
+
+        assertEquals(0, loanService.getLoanStats(null).getTotal().getCount());
+    }
+
+    // ---------- OBSERVATION ----------
+    private static ObservationRegistry observationRegistry(SimpleMeterRegistry meterRegistry) {
+        ObservationRegistry registry = ObservationRegistry.create();
+        registry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        return registry;
+    }
+
+    @Test
+    void shouldTimeTransitionsByLoanTypeAndStatus() {
+        Loan loan = createLoan(LoanStatus.APPROVED);
+        loan.setLoanType(LoanType.TERM_LOAN);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), any(Update.class)))
+                .thenReturn(Optional.of(loan));
+
+        loanService.approveLoan("1");
+
+        Timer timer = meterRegistry.find("loan.service")
+                .tags("operation", "approve", "loan_type", "TERM_LOAN", "status", "APPROVED", "outcome", "success")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void shouldTagRejectedOperations() {
+        assertThrows(BusinessException.class, () -> loanService.rejectLoan("1", ""));
+
+        Timer timer = meterRegistry.find("loan.service")
+                .tags("operation", "reject", "loan_type", "none", "status", "none", "outcome", "rejected")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void shouldCarryTraceContextInOutboxEvent() {
+        Map<String, String> traceContext = Map.of("traceparent", "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01");
+        when(traceContextCarrier.capture()).thenReturn(traceContext);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        when(loanRepository.transitionIfStatus(eq("1"), eq(LoanStatus.UNDER_REVIEW), isNull(), update.capture()))
+                .thenReturn(Optional.of(createLoan(LoanStatus.APPROVED)));
+
+        loanService.approveLoan("1");
+
+        Document push = (Document) update.getValue().getUpdateObject().get("$push");
+        assertEquals(traceContext, ((OutboxEvent) push.get("outbox")).getTraceContext());
     }
 }
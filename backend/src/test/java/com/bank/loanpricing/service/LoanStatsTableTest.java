@@ -0,0 +1,129 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.dto.LoanStatsResponse;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatsBucket;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoanStatsTableTest {
+
+    private final LoanStatsTable table = new LoanStatsTable();
+
+    private static Loan loan(String user, LoanType type, LoanStatus status, double amount) {
+        Loan loan = new Loan();
+        loan.setCreatedBy(user);
+        loan.setLoanType(type);
+        loan.setStatus(status);
+        loan.setRequestedAmount(amount);
+        return loan;
+    }
+
+    private static LoanStatsBucket bucket(String user, LoanType type, LoanStatus status,
+                                          long count, double requested, double sanctioned) {
+        LoanStatsBucket bucket = new LoanStatsBucket();
+        bucket.setCreatedBy(user);
+        bucket.setLoanType(type);
+        bucket.setStatus(status);
+        bucket.setCount(count);
+        bucket.setRequestedAmount(requested);
+        bucket.setSanctionedAmount(sanctioned);
+        return bucket;
+    }
+
+    @Test
+    void shouldSummariseResetBucketsPerStatusTypeAndUser() {
+        table.reset(List.of(
+                bucket("a@test.com", LoanType.TERM_LOAN, LoanStatus.DRAFT, 2, 300, 0),
+                bucket("a@test.com", LoanType.OVERDRAFT, LoanStatus.APPROVED, 1, 500, 400),
+                bucket("b@test.com", LoanType.TERM_LOAN, LoanStatus.APPROVED, 3, 900, 800)));
+
+        LoanStatsResponse stats = table.snapshot(null);
+
+        assertEquals(6, stats.getTotal().getCount());
+        assertEquals(1700, stats.getTotal().getRequestedAmount());
+        assertEquals(1200, stats.getTotal().getSanctionedAmount());
+        assertEquals(4, stats.getByStatus().get(LoanStatus.APPROVED).getCount());
+        assertEquals(0, stats.getByStatus().get(LoanStatus.REJECTED).getCount());
+        assertEquals(1200, stats.getByType().get(LoanType.TERM_LOAN).getRequestedAmount());
+        assertEquals(3, stats.getByUser().get("a@test.com").getCount());
+        assertEquals(800, stats.getByUser().get("b@test.com").getSanctionedAmount());
+    }
+
+    @Test
+    void shouldReplacePreviousContentsOnReset() {
+        table.add(loan("a@test.com", LoanType.TERM_LOAN, LoanStatus.DRAFT, 100));
+
+        table.reset(List.of(bucket("b@test.com", LoanType.SME_LOAN, LoanStatus.SUBMITTED, 1, 50, 0)));
+
+        LoanStatsResponse stats = table.snapshot(null);
+        assertEquals(1, stats.getTotal().getCount());
+        assertFalse(stats.getByUser().containsKey("a@test.com"));
+    }
+
+    @Test
+    void shouldLimitUserBreakdownToRequestedUser() {
+        table.add(loan("a@test.com", LoanType.TERM_LOAN, LoanStatus.DRAFT, 100));
+        table.add(loan("b@test.com", LoanType.TERM_LOAN, LoanStatus.DRAFT, 200));
+
+        LoanStatsResponse stats = table.snapshot("a@test.com");
+
+        assertEquals(2, stats.getTotal().getCount());
+        assertEquals(List.of("a@test.com"), List.copyOf(stats.getByUser().keySet()));
+    }
+
+    @Test
+    void shouldCountUntypedLoansInTotalsOnly() {
+        table.add(loan(null, null, LoanStatus.DRAFT, 100));
+
+        LoanStatsResponse stats = table.snapshot(null);
+
+        assertEquals(1, stats.getTotal().getCount());
+        assertEquals(1, stats.getByStatus().get(LoanStatus.DRAFT).getCount());
+        assertTrue(stats.getByType().values().stream().allMatch(t -> t.getCount() == 0));
+        assertEquals(1, stats.getByUser().get("unknown").getCount());
+    }
+
+    @Test
+    void shouldIgnoreMovesOfDeletedLoans() {
+        Loan deleted = loan("a@test.com", LoanType.TERM_LOAN, LoanStatus.SUBMITTED, 100);
+        deleted.setDeleted(true);
+
+        table.move(deleted, LoanStatus.DRAFT);
+
+        assertEquals(0, table.snapshot(null).getByStatus().get(LoanStatus.DRAFT).getCount());
+    }
+
+    @Test
+    void shouldKeepExactCountsUnderConcurrentTransitions() throws InterruptedException {
+        int threads = 4;
+        int loansPerThread = 5_000;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < loansPerThread; i++) {
+                    Loan loan = loan("a@test.com", LoanType.TERM_LOAN, LoanStatus.DRAFT, 10);
+                    table.add(loan);
+                    loan.setStatus(LoanStatus.SUBMITTED);
+                    table.move(loan, LoanStatus.DRAFT);
+                }
+            });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        LoanStatsResponse stats = table.snapshot(null);
+        assertEquals(0, stats.getByStatus().get(LoanStatus.DRAFT).getCount());
+        assertEquals(threads * loansPerThread, stats.getByStatus().get(LoanStatus.SUBMITTED).getCount());
+        assertEquals(threads * loansPerThread * 10.0, stats.getTotal().getRequestedAmount());
+    }
+}
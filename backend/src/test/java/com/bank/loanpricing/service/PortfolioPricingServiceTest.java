@@ -0,0 +1,88 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanStatus;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.pricing.LoanPricer;
+import com.bank.loanpricing.pricing.OverdraftPricingStrategy;
+import com.bank.loanpricing.pricing.SmeLoanPricingStrategy;
+import com.bank.loanpricing.pricing.SpreadGridRegistry;
+import com.bank.loanpricing.pricing.TermLoanPricingStrategy;
+import com.bank.loanpricing.pricing.WorkingCapitalPricingStrategy;
+import com.bank.loanpricing.repository.LoanRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioPricingServiceTest {
+
+    @Mock
+    private LoanRepository loanRepository;
+
+    @Spy
+    private LoanPricer loanPricer = new LoanPricer(
+            new SpreadGridRegistry(
+                    new ClassPathResource("pricing/spread-grid.csv"),
+                    new ClassPathResource("pricing/spread-grid.csv")),
+            List.of(new TermLoanPricingStrategy(), new WorkingCapitalPricingStrategy(),
+                    new OverdraftPricingStrategy(), new SmeLoanPricingStrategy()));
+
+    @InjectMocks
+    private PortfolioPricingService portfolioPricingService;
+
+    private Loan loan(int i) {
+        Loan loan = new Loan();
+        loan.setId("loan-" + i);
+        loan.setLoanType(LoanType.TERM_LOAN);
+        loan.setRequestedAmount(1000 + i);
+        loan.setProposedInterestRate(10);
+        loan.setTenureMonths(12);
+        return loan;
+    }
+
+    @Test
+    void shouldPriceAcrossChunksInCursorOrder() throws Exception {
+        int total = PortfolioPricingService.CHUNK_SIZE + 3;
+        when(loanRepository.streamPricingInputs(null, LoanStatus.APPROVED))
+                .thenReturn(IntStream.range(0, total).mapToObj(this::loan));
+
+        List<String> ids = new ArrayList<>();
+        List<Double> prices = new ArrayList<>();
+        long priced = portfolioPricingService.priceLoans(null, LoanStatus.APPROVED, (id, price) -> {
+            ids.add(id);
+            prices.add(price);
+        });
+
+        assertEquals(total, priced);
+        assertEquals("loan-0", ids.get(0));
+        assertEquals("loan-" + (total - 1), ids.get(total - 1));
+        // Unrated term loan up to 12 months: 10% + 4.00 spread, as 12 EMIs
+        assertEquals(1077.45, prices.get(0));
+        assertEquals(loanPricer.price(loan(total - 1)), prices.get(total - 1));
+    }
+
+    @Test
+    void shouldCloseCursorWhenDone() throws Exception {
+        Runnable onClose = mock(Runnable.class);
+        when(loanRepository.streamPricingInputs(List.of("loan-1"), null))
+                .thenReturn(Stream.of(loan(1)).onClose(onClose));
+
+        long priced = portfolioPricingService.priceLoans(List.of("loan-1"), null, (id, price) -> { });
+
+        assertEquals(1, priced);
+        verify(onClose).run();
+    }
+}
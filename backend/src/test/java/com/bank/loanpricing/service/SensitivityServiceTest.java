@@ -0,0 +1,142 @@
+package com.bank.loanpricing.service;
+
+import com.bank.loanpricing.dto.SensitivityRequest;
+import com.bank.loanpricing.dto.SensitivityResponse;
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.model.LoanType;
+import com.bank.loanpricing.pricing.LoanPricer;
+import com.bank.loanpricing.pricing.OverdraftPricingStrategy;
+import com.bank.loanpricing.pricing.SmeLoanPricingStrategy;
+import com.bank.loanpricing.pricing.SpreadGridRegistry;
+import com.bank.loanpricing.pricing.TermLoanPricingStrategy;
+import com.bank.loanpricing.pricing.WorkingCapitalPricingStrategy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ClassPathResource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SensitivityServiceTest {
+
+    @Mock
+    private LoanService loanService;
+
+    @Spy
+    private LoanPricer loanPricer = new LoanPricer(
+            new SpreadGridRegistry(
+                    new ClassPathResource("pricing/spread-grid.csv"),
+                    new ClassPathResource("pricing/spread-grid.csv")),
+            List.of(new TermLoanPricingStrategy(), new WorkingCapitalPricingStrategy(),
+                    new OverdraftPricingStrategy(), new SmeLoanPricingStrategy()));
+
+    @InjectMocks
+    private SensitivityService sensitivityService;
+
+    private static SensitivityRequest.Range range(double from, double to, double step) {
+        SensitivityRequest.Range range = new SensitivityRequest.Range();
+        range.setFrom(from);
+        range.setTo(to);
+        range.setStep(step);
+        return range;
+    }
+
+    private static Loan loan(double amount, double rate, int tenure) {
+        Loan loan = new Loan();
+        loan.setLoanType(LoanType.TERM_LOAN);
+        loan.setRequestedAmount(amount);
+        loan.setProposedInterestRate(rate);
+        loan.setTenureMonths(tenure);
+        return loan;
+    }
+
+    @Test
+    void shouldPriceEveryCombinationOfStoredLoan() {
+        when(loanService.getLoanById("1")).thenReturn(loan(100000, 10, 12));
+
+        SensitivityRequest request = new SensitivityRequest();
+        request.setLoanId("1");
+        request.setRate(range(8, 9, 0.5));
+        request.setTenure(range(12, 36, 12));
+
+        SensitivityResponse response = sensitivityService.priceGrid(request);
+
+        assertArrayEquals(new double[]{8, 8.5, 9}, response.getRates());
+        assertArrayEquals(new int[]{12, 24, 36}, response.getTenures());
+        assertArrayEquals(new double[]{100000}, response.getAmounts());
+        assertEquals(9, response.getPrices().length);
+
+        // (amount 0, tenure 24, rate 8.5) must match pricing that loan directly
+        assertEquals(loanPricer.price(loan(100000, 8.5, 24)), response.getPrices()[4]);
+        verify(loanService, never()).saveLoan(any());
+    }
+
+    @Test
+    void shouldPriceInlineTerms() {
+        SensitivityRequest request = new SensitivityRequest();
+        request.setLoanType(LoanType.TERM_LOAN);
+        request.setRequestedAmount(100000.0);
+        request.setProposedInterestRate(10.0);
+        request.setTenureMonths(12);
+        request.setAmount(range(50000, 150000, 50000));
+
+        SensitivityResponse response = sensitivityService.priceGrid(request);
+
+        assertEquals(3, response.getPrices().length);
+        assertEquals(loanPricer.price(loan(150000, 10, 12)), response.getPrices()[2]);
+        verifyNoInteractions(loanService);
+    }
+
+    @Test
+    void shouldRejectOversizedGrid() {
+        SensitivityRequest request = new SensitivityRequest();
+        request.setLoanType(LoanType.TERM_LOAN);
+        request.setRequestedAmount(100000.0);
+        request.setProposedInterestRate(10.0);
+        request.setTenureMonths(12);
+        request.setRate(range(1, 20, 0.1));
+        request.setTenure(range(1, 360, 2));
+        request.setAmount(range(1000, 100000, 1000));
+
+        assertThrows(BusinessException.class, () -> sensitivityService.priceGrid(request));
+    }
+
+    @Test
+    void shouldRequireTermsWithoutLoanId() {
+        SensitivityRequest request = new SensitivityRequest();
+        request.setLoanType(LoanType.TERM_LOAN);
+
+        assertThrows(BusinessException.class, () -> sensitivityService.priceGrid(request));
+    }
+
+    @Test
+    void shouldRejectNegativeAmountRange() {
+        when(loanService.getLoanById("1")).thenReturn(loan(100000, 10, 12));
+
+        SensitivityRequest request = new SensitivityRequest();
+        request.setLoanId("1");
+        request.setAmount(range(-50000, 50000, 50000));
+
+        assertThrows(BusinessException.class, () -> sensitivityService.priceGrid(request));
+    }
+
+    @Test
+    void shouldRejectFractionalTenureStep() {
+        when(loanService.getLoanById("1")).thenReturn(loan(100000, 10, 12));
+
+        SensitivityRequest request = new SensitivityRequest();
+        request.setLoanId("1");
+        request.setTenure(range(12, 13, 0.25));
+
+        assertThrows(BusinessException.class, () -> sensitivityService.priceGrid(request));
+        verify(loanPricer, never()).priceGrid(any(), any(), any(), any(), any());
+    }
+}
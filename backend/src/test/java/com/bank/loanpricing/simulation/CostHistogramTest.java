@@ -0,0 +1,46 @@
+package com.bank.loanpricing.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CostHistogramTest {
+
+    @Test
+    void shouldEstimatePercentilesWithinPrecision() {
+        SplittableRandom random = new SplittableRandom(42);
+        double[] values = new double[100_000];
+        CostHistogram histogram = new CostHistogram(1_000_000);
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000_000 * (1 + 0.05 * random.nextGaussian());
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double q : new double[]{0.5, 0.9, 0.99, 0.999}) {
+            double exact = values[(int) Math.ceil(q * values.length) - 1];
+            assertEquals(exact, histogram.percentile(q), exact * CostHistogram.RELATIVE_PRECISION);
+        }
+        assertEquals(values[0], histogram.min());
+        assertEquals(values[values.length - 1], histogram.max());
+    }
+
+    @Test
+    void shouldMergePartialHistograms() {
+        CostHistogram left = new CostHistogram(100);
+        CostHistogram right = new CostHistogram(100);
+        left.record(90);
+        right.record(110);
+        right.record(1_000);
+
+        left.merge(right);
+
+        assertEquals(3, left.count());
+        assertEquals(400, left.mean(), 1e-9);
+        assertEquals(1_000, left.percentile(1.0));
+    }
+}
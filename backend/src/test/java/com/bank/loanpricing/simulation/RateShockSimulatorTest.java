@@ -0,0 +1,74 @@
+package com.bank.loanpricing.simulation;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateShockSimulatorTest {
+
+    private final double[] principals = {100_000, 50_000};
+    private final double[] rates = {10, 8};
+    private final int[] tenures = {12, 24};
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private CostHistogram run(int paths, double volatility, double drift, long seed, AtomicLong progress)
+            throws Exception {
+        return RateShockSimulator.simulate(principals, rates, tenures, 2, paths, volatility, drift, seed,
+                pool, progress);
+    }
+
+    @Test
+    void shouldReturnBaseCostWithoutShocks() throws Exception {
+        CostHistogram histogram = run(5_000, 0, 0, 1, new AtomicLong());
+
+        // 100k at 10% for 1y + 50k at 8% for 2y, simple interest
+        assertEquals(168_000, histogram.reference(), 1e-6);
+        assertEquals(168_000, histogram.min(), 1e-6);
+        assertEquals(168_000, histogram.max(), 1e-6);
+    }
+
+    @Test
+    void shouldBeReproducibleForSameSeed() throws Exception {
+        CostHistogram first = run(20_000, 2, 0, 7, new AtomicLong());
+        CostHistogram second = run(20_000, 2, 0, 7, new AtomicLong());
+
+        assertEquals(first.mean(), second.mean());
+        assertEquals(first.percentile(0.99), second.percentile(0.99));
+    }
+
+    @Test
+    void shouldWidenTailsWithVolatilityAndTrackProgress() throws Exception {
+        AtomicLong progress = new AtomicLong();
+        CostHistogram histogram = run(20_000, 2, 0, 11, progress);
+
+        assertEquals(20_000, histogram.count());
+        assertEquals(20_000, progress.get());
+        assertTrue(histogram.percentile(0.99) > histogram.reference());
+        assertTrue(histogram.percentile(0.01) < histogram.reference());
+        // Zero-drift shocks average out
+        assertEquals(histogram.reference(), histogram.mean(), histogram.reference() * 0.001);
+    }
+
+    @Test
+    void shouldRaiseCostUnderPositiveDrift() throws Exception {
+        CostHistogram histogram = run(2_000, 0, 1.2, 3, new AtomicLong());
+
+        assertTrue(histogram.min() > histogram.reference());
+    }
+}
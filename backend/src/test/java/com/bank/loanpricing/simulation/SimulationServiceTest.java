@@ -0,0 +1,109 @@
+package com.bank.loanpricing.simulation;
+
+import com.bank.loanpricing.dto.RateShockRequest;
+import com.bank.loanpricing.dto.SimulationJobResponse;
+import com.bank.loanpricing.exception.BusinessException;
+import com.bank.loanpricing.model.Loan;
+import com.bank.loanpricing.repository.LoanRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SimulationServiceTest {
+
+    private LoanRepository loanRepository;
+    private SimulationService simulationService;
+
+    @BeforeEach
+    void setUp() {
+        loanRepository = mock(LoanRepository.class);
+        simulationService = new SimulationService(loanRepository, 1, 1, 60);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationService.shutdown();
+    }
+
+    private static Loan approvedLoan() {
+        Loan loan = new Loan();
+        loan.setRequestedAmount(120_000);
+        loan.setSanctionedAmount(100_000.0);
+        loan.setApprovedInterestRate(10.0);
+        loan.setTenureMonths(12);
+        return loan;
+    }
+
+    private SimulationJobResponse awaitFinished(String id) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            SimulationJobResponse job = simulationService.getJob(id);
+            if (job.getStatus().equals("COMPLETED") || job.getStatus().equals("FAILED")) {
+                return job;
+            }
+            Thread.sleep(10);
+        }
+        fail("Simulation did not finish");
+        return null;
+    }
+
+    @Test
+    void shouldRunJobInBackgroundAndReportPercentiles() throws Exception {
+        when(loanRepository.streamApprovedRateInputs()).thenReturn(Stream.of(approvedLoan()));
+
+        RateShockRequest request = new RateShockRequest();
+        request.setPaths(10_000);
+        request.setSeed(1L);
+
+        SimulationJobResponse submitted = simulationService.submit(request);
+        SimulationJobResponse job = awaitFinished(submitted.getId());
+
+        assertEquals("COMPLETED", job.getStatus());
+        assertEquals(10_000, job.getCompletedPaths());
+        assertEquals(1, job.getResult().getLoans());
+        // Sanctioned amount is used: 100k at 10% for a year
+        assertEquals(110_000, job.getResult().getBaseCost());
+        assertTrue(job.getResult().getP99() >= job.getResult().getP50());
+    }
+
+    @Test
+    void shouldFailJobWhenNoApprovedLoans() throws Exception {
+        when(loanRepository.streamApprovedRateInputs()).thenReturn(Stream.empty());
+
+        SimulationJobResponse job = awaitFinished(simulationService.submit(new RateShockRequest()).getId());
+
+        assertEquals("FAILED", job.getStatus());
+        assertNotNull(job.getError());
+    }
+
+    @Test
+    void shouldKeepRunningJobRegardlessOfRetention() throws Exception {
+        simulationService.shutdown();
+        simulationService = new SimulationService(loanRepository, 1, 1, 0);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(loanRepository.streamApprovedRateInputs()).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return Stream.of(approvedLoan());
+        });
+
+        String id = simulationService.submit(new RateShockRequest()).getId();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        assertEquals("RUNNING", simulationService.getJob(id).getStatus());
+        release.countDown();
+    }
+
+    @Test
+    void shouldRejectUnknownJob() {
+        assertThrows(BusinessException.class, () -> simulationService.getJob("missing"));
+    }
+}
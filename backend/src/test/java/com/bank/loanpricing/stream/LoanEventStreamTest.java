@@ -0,0 +1,68 @@
+package com.bank.loanpricing.stream;
+
+import com.bank.loanpricing.kafka.LoanEvent;
+import com.bank.loanpricing.model.LoanStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LoanEventStreamTest {
+
+    // Dispatch tasks only run when the test says so, standing in for a stalled client
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private final Executor dispatcher = pending::add;
+
+    private final LoanEventStream stream =
+            new LoanEventStream(new ObjectMapper().findAndRegisterModules(), dispatcher, 2, 60_000);
+
+    private static LoanEvent event(String id, String owner) {
+        return new LoanEvent(id, "loan-" + id, owner, LoanStatus.DRAFT, LoanStatus.SUBMITTED, owner, Instant.now(), false, null);
+    }
+
+    private void runDispatcher() {
+        Runnable task;
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+
+    @Test
+    void shouldDropSubscriberThatFallsBufferBehind() {
+        stream.subscribe("user@test.com", false);
+
+        // The opening heartbeat plus one event fill the buffer of two; the next one overflows
+        stream.publish(event("1", "user@test.com"));
+        stream.publish(event("2", "user@test.com"));
+
+        assertEquals(0, stream.subscriberCount());
+    }
+
+    @Test
+    void shouldKeepSubscriberThatKeepsUp() {
+        stream.subscribe("user@test.com", false);
+
+        for (int i = 0; i < 10; i++) {
+            stream.publish(event(String.valueOf(i), "user@test.com"));
+            runDispatcher();
+        }
+
+        assertEquals(1, stream.subscriberCount());
+    }
+
+    @Test
+    void shouldNotBufferOtherUsersEvents() {
+        stream.subscribe("user@test.com", false);
+
+        for (int i = 0; i < 10; i++) {
+            stream.publish(event(String.valueOf(i), "someone-else@test.com"));
+        }
+
+        assertEquals(1, stream.subscriberCount());
+    }
+}
@@ -0,0 +1,78 @@
+package com.bank.loanpricing.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TraceContextCarrierTest {
+
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+    private TraceContextCarrier carrier;
+
+    @BeforeEach
+    void setUp() {
+        tracerProvider = SdkTracerProvider.builder().build();
+        io.opentelemetry.api.trace.Tracer otelTracer = tracerProvider.get("test");
+        OtelCurrentTraceContext currentTraceContext = new OtelCurrentTraceContext();
+
+        tracer = new OtelTracer(otelTracer, currentTraceContext, event -> {
+        }, new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+        carrier = new TraceContextCarrier(tracer, new OtelPropagator(
+                ContextPropagators.create(W3CTraceContextPropagator.getInstance()), otelTracer));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void shouldCaptureNothingOutsideATrace() {
+        assertNull(carrier.capture());
+    }
+
+    @Test
+    void shouldContinueCapturedTraceThroughKafkaHeaders() {
+        Span request = tracer.nextSpan().name("loan approve").start();
+        Map<String, String> captured;
+        try (Tracer.SpanInScope scope = tracer.withSpan(request)) {
+            captured = carrier.capture();
+        } finally {
+            request.end();
+        }
+        assertNotNull(captured);
+        assertTrue(captured.get("traceparent").contains(request.context().traceId()));
+
+        // Relay side: producer span is a child of the captured request span
+        Span send = carrier.startSpan("loan-events send", Span.Kind.PRODUCER, captured);
+        RecordHeaders headers = new RecordHeaders();
+        carrier.inject(send, headers);
+        send.end();
+
+        assertEquals(request.context().traceId(), send.context().traceId());
+        assertEquals(request.context().spanId(), send.context().parentId());
+
+        // Consumer side: continues from the record headers
+        Span process = carrier.startSpan("loan-events process", Span.Kind.CONSUMER, headers);
+        process.end();
+
+        assertEquals(request.context().traceId(), process.context().traceId());
+        assertEquals(send.context().spanId(), process.context().parentId());
+    }
+}
@@ -1,9 +1,12 @@
 import { Injectable } from '@angular/core';
 import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
-import { Loan, LoanStatus } from '../../models/loan.model';
+import { Loan, LoanStatus, LoanSummary } from '../../models/loan.model';
 import { PageResponse } from '../../models/page-response.model';
+import { LoanAction } from '../../models/loan-action.model';
 import { CreateLoanRequest } from '../../models/create-loan.model';
+import { LoanStats } from '../../models/loan-stats.model';
+import { LoanEvent } from '../../models/loan-event.model';
 
 @Injectable({
   providedIn: 'root'
@@ -32,7 +35,7 @@ export class LoanService {
     page = 0,
     size = 10,
     status?: LoanStatus
-  ): Observable<PageResponse<Loan>> {
+  ): Observable<PageResponse<LoanSummary>> {
 
     let url = '';
     let params = new HttpParams()
@@ -47,12 +50,79 @@ export class LoanService {
 
     console.log('🌐 API CALL:', url, 'params:', params.toString());
 
-    return this.http.get<PageResponse<Loan>>(url, {
+    return this.http.get<PageResponse<LoanSummary>>(url, {
       params,
       headers: this.getAuthHeaders()
     });
   }
 
+  // GET dashboard totals (per status, type and user)
+  getLoanStats(): Observable<LoanStats> {
+    return this.http.get<LoanStats>(`${this.baseUrl}/stats`, {
+      headers: this.getAuthHeaders()
+    });
+  }
+
+  // LIVE status changes (Server-Sent Events). EventSource cannot send the
+  // Authorization header, so the stream is read with fetch and parsed here.
+  // Reconnects after a drop; the server resumes from live events only.
+  streamLoanEvents(): Observable<LoanEvent> {
+    return new Observable<LoanEvent>(subscriber => {
+      const controller = new AbortController();
+      let retry: ReturnType<typeof setTimeout> | undefined;
+
+      const connect = () => {
+        fetch(`${this.baseUrl}/events`, {
+          headers: { ...this.getAuthHeaders(), Accept: 'text/event-stream' },
+          signal: controller.signal
+        })
+          .then(async res => {
+            if (res.status === 401 || res.status === 403) {
+              subscriber.complete();
+              return;
+            }
+            if (!res.ok || !res.body) {
+              throw new Error(`Loan event stream failed: ${res.status}`);
+            }
+
+            const reader = res.body.pipeThrough(new TextDecoderStream()).getReader();
+            let buffer = '';
+            while (true) {
+              const { value, done } = await reader.read();
+              if (done) break;
+              buffer += value;
+
+              // Frames end with a blank line; comment frames (heartbeats) carry no data
+              let end: number;
+              while ((end = buffer.indexOf('\n\n')) >= 0) {
+                const data = buffer.slice(0, end)
+                  .split('\n')
+                  .filter(line => line.startsWith('data:'))
+                  .map(line => line.slice(5))
+                  .join('\n');
+                buffer = buffer.slice(end + 2);
+                if (data) subscriber.next(JSON.parse(data) as LoanEvent);
+              }
+            }
+          })
+          .catch(err => {
+            if (!controller.signal.aborted) console.warn('Loan event stream dropped:', err);
+          })
+          .finally(() => {
+            if (!controller.signal.aborted && !subscriber.closed) {
+              retry = setTimeout(connect, 5000);
+            }
+          });
+      };
+
+      connect();
+      return () => {
+        controller.abort();
+        clearTimeout(retry);
+      };
+    });
+  }
+
   // CREATE loan
   createLoan(payload: CreateLoanRequest): Observable<Loan> {
     return this.http.post<Loan>(
@@ -107,6 +177,18 @@ export class LoanService {
     );
   }
 
+  // GET loan action history (paginated, newest first)
+  getLoanHistory(id: string, page = 0, size = 20): Observable<PageResponse<LoanAction>> {
+    const params = new HttpParams()
+      .set('page', page.toString())
+      .set('size', size.toString());
+
+    return this.http.get<PageResponse<LoanAction>>(`${this.baseUrl}/${id}/history`, {
+      params,
+      headers: this.getAuthHeaders()
+    });
+  }
+
   // DELETE loan (ADMIN)
   deleteLoan(id: string): Observable<Loan> {
     return this.http.delete<Loan>(
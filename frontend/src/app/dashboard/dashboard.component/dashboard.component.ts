@@ -2,6 +2,8 @@ import { Component, OnInit, OnDestroy } from '@angular/core';
 import { Router, RouterModule, NavigationEnd } from '@angular/router';
 import { CommonModule } from '@angular/common';
 import { LoanService } from '../../core/services/loan.service';
+import { LoanStatus } from '../../models/loan-status.model';
+import { LoanEvent } from '../../models/loan-event.model';
 import { Subscription } from 'rxjs';
 import { filter } from 'rxjs/operators';
 
@@ -31,6 +33,15 @@ export class DashboardComponent implements OnInit, OnDestroy {
   isDashboard = false;
   
   private routerSubscription?: Subscription;
+  private eventsSubscription?: Subscription;
+
+  private static readonly STAT_KEYS: Record<LoanStatus, 'draft' | 'submitted' | 'underReview' | 'approved' | 'rejected'> = {
+    DRAFT: 'draft',
+    SUBMITTED: 'submitted',
+    UNDER_REVIEW: 'underReview',
+    APPROVED: 'approved',
+    REJECTED: 'rejected'
+  };
 
   constructor(
     public router: Router,
@@ -49,25 +60,42 @@ export class DashboardComponent implements OnInit, OnDestroy {
       });
 
     this.loadStatistics();
+
+    // Keep the tiles current from the live stream instead of re-polling
+    this.eventsSubscription = this.loanService.streamLoanEvents()
+      .subscribe(event => this.applyEvent(event));
   }
 
   ngOnDestroy() {
     this.routerSubscription?.unsubscribe();
+    this.eventsSubscription?.unsubscribe();
+  }
+
+  private applyEvent(event: LoanEvent) {
+    if (event.deleted) {
+      this.stats[DashboardComponent.STAT_KEYS[event.status]]--;
+      this.stats.total--;
+      return;
+    }
+    if (event.previousStatus) {
+      this.stats[DashboardComponent.STAT_KEYS[event.previousStatus]]--;
+    } else {
+      this.stats.total++;
+    }
+    this.stats[DashboardComponent.STAT_KEYS[event.status]]++;
   }
 
   loadStatistics() {
     this.loading = true;
     
-    this.loanService.getLoans(0, 1000).subscribe({
+    this.loanService.getLoanStats().subscribe({
       next: (res) => {
-        const loans = res.content;
-        
-        this.stats.total = loans.length;
-        this.stats.draft = loans.filter(l => l.status === 'DRAFT').length;
-        this.stats.submitted = loans.filter(l => l.status === 'SUBMITTED').length;
-        this.stats.underReview = loans.filter(l => l.status === 'UNDER_REVIEW').length;
-        this.stats.approved = loans.filter(l => l.status === 'APPROVED').length;
-        this.stats.rejected = loans.filter(l => l.status === 'REJECTED').length;
+        this.stats.total = res.total.count;
+        this.stats.draft = res.byStatus.DRAFT.count;
+        this.stats.submitted = res.byStatus.SUBMITTED.count;
+        this.stats.underReview = res.byStatus.UNDER_REVIEW.count;
+        this.stats.approved = res.byStatus.APPROVED.count;
+        this.stats.rejected = res.byStatus.REJECTED.count;
         
         this.loading = false;
       },
@@ -2,6 +2,7 @@ import { Component, OnInit } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { ActivatedRoute, Router } from '@angular/router';
 import { Loan, LoanStatus } from '../../models/loan.model';
+import { LoanAction } from '../../models/loan-action.model';
 import { LoanService } from '../../core/services/loan.service';
 import { AuthService } from '../../core/services/auth.service';
 
@@ -15,6 +16,7 @@ import { AuthService } from '../../core/services/auth.service';
 export class LoanDetailsComponent implements OnInit {
 
   loan!: Loan;
+  actions: LoanAction[] = [];
   loading = true;
   isAdmin = false;
 
@@ -52,6 +54,7 @@ export class LoanDetailsComponent implements OnInit {
     next: (res) => {
       this.loan = res;
       this.loading = false;
+      this.loadHistory(id);
     },
     error: () => {
       this.loading = false;
@@ -60,6 +63,12 @@ export class LoanDetailsComponent implements OnInit {
   });
 }
 
+  loadHistory(id: string) {
+    this.loanService.getLoanHistory(id).subscribe(page => {
+      this.actions = page.content;
+    });
+  }
+
   /* ================= ACTIONS ================= */
 
   submitLoan() {
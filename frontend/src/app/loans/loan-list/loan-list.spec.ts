@@ -1,5 +1,5 @@
 import { describe, it, expect, beforeEach, vi } from 'vitest';
-import { of, throwError } from 'rxjs';
+import { NEVER, of, throwError } from 'rxjs';
 import { LoanListComponent } from './loan-list';
 import { LoanService } from '../../core/services/loan.service';
 import { Router } from '@angular/router';
@@ -11,6 +11,7 @@ describe('LoanListComponent (PURE Vitest)', () => {
     getLoans: ReturnType<typeof vi.fn>;
     updateLoanStatus: ReturnType<typeof vi.fn>;
     deleteLoan: ReturnType<typeof vi.fn>;
+    streamLoanEvents: ReturnType<typeof vi.fn>;
   };
 
   let routerMock: { url: string };
@@ -19,7 +20,8 @@ describe('LoanListComponent (PURE Vitest)', () => {
     loanServiceMock = {
       getLoans: vi.fn(),
       updateLoanStatus: vi.fn(),
-      deleteLoan: vi.fn()
+      deleteLoan: vi.fn(),
+      streamLoanEvents: vi.fn().mockReturnValue(NEVER)
     };
 
     // ✅ DEFAULT SAFE MOCK (CRITICAL FIX)
@@ -1,10 +1,12 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnInit, OnDestroy } from '@angular/core';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { RouterModule, Router } from '@angular/router';
 import { LoanService } from '../../core/services/loan.service';
-import { Loan, LoanStatus } from '../../models/loan.model';
+import { LoanStatus, LoanSummary } from '../../models/loan.model';
 import { ActivatedRoute } from '@angular/router';
+import { LoanEvent } from '../../models/loan-event.model';
+import { Subscription } from 'rxjs';
 
 @Component({
   selector: 'app-loan-list',
@@ -13,9 +15,9 @@ import { ActivatedRoute } from '@angular/router';
   standalone: true,
   imports: [CommonModule, FormsModule, RouterModule]
 })
-export class LoanListComponent implements OnInit {
+export class LoanListComponent implements OnInit, OnDestroy {
 
-  loans: Loan[] = [];
+  loans: LoanSummary[] = [];
   loading = false;
 
   page = 0;
@@ -26,6 +28,8 @@ export class LoanListComponent implements OnInit {
   statusFilter?: LoanStatus;
   isAdmin = false;
 
+  private eventsSubscription?: Subscription;
+
   constructor(
     private loanService: LoanService,
     private router: Router,
@@ -49,6 +53,48 @@ export class LoanListComponent implements OnInit {
 
       this.loadLoans();   //ONLY ONE PLACE LOAD HAPPENS
     });
+
+    // Rows on screen follow status changes live instead of re-fetching the page
+    this.eventsSubscription = this.loanService.streamLoanEvents()
+      .subscribe(event => this.applyEvent(event));
+  }
+
+  ngOnDestroy() {
+    this.eventsSubscription?.unsubscribe();
+  }
+
+  // ================= LIVE UPDATES =================
+  private applyEvent(event: LoanEvent) {
+    if (event.deleted) {
+      this.markDeleted(event.loanId);
+      return;
+    }
+    this.patchStatus(event.loanId, event.status as LoanStatus);
+  }
+
+  // Admins keep deleted rows on screen (flagged), everyone else stops seeing them
+  private markDeleted(id: string) {
+    if (!this.loans.some(loan => loan.id === id)) return;
+
+    if (this.isAdmin) {
+      this.loans = this.loans.map(loan => loan.id === id ? { ...loan, deleted: true } : loan);
+    } else {
+      this.loans = this.loans.filter(loan => loan.id !== id);
+      this.totalElements--;
+    }
+  }
+
+  // Updates the row in place; drops it if it no longer matches the status filter
+  private patchStatus(id: string, status: LoanStatus) {
+    const row = this.loans.find(loan => loan.id === id);
+    if (!row || row.status === status) return;
+
+    if (this.statusFilter && status !== this.statusFilter) {
+      this.loans = this.loans.filter(loan => loan.id !== id);
+      this.totalElements--;
+    } else {
+      this.loans = this.loans.map(loan => loan.id === id ? { ...loan, status } : loan);
+    }
   }
 
   // ================= LOAD LOANS =================
@@ -94,55 +140,42 @@ export class LoanListComponent implements OnInit {
     this.router.navigate(['/dashboard/loans', loanId]);
   }
 
-  editLoan(loan: Loan) {
+  editLoan(loan: LoanSummary) {
     this.router.navigate(['/dashboard/loans', loan.id, 'edit']);
   }
 
-  canEditLoan(loan: Loan): boolean {
+  canEditLoan(loan: LoanSummary): boolean {
     return !this.isAdmin && loan.status === LoanStatus.DRAFT;
   }
-  canDeleteLoan(loan: Loan): boolean {
+  canDeleteLoan(loan: LoanSummary): boolean {
   return this.isAdmin;
 }
 
   // ================= ACTIONS =================
   submitLoan(id: string) {
     this.loanService.submitLoan(id).subscribe({
-      next: () => {
-        console.log('Loan submitted');
-        this.page = 0;
-        this.loadLoans();   //keeps same filter
-      },
+      next: (loan) => this.patchStatus(loan.id, loan.status),
       error: (err) => console.error('Submit failed:', err)
     });
   }
 
   markUnderReview(id: string) {
     this.loanService.markUnderReview(id).subscribe({
-      next: () => {
-        this.page = 0;
-        this.loadLoans();   //keeps same filter
-      },
+      next: (loan) => this.patchStatus(loan.id, loan.status),
       error: (err) => console.error(err)
     });
   }
 
   approveLoan(id: string) {
     this.loanService.approveLoan(id).subscribe({
-      next: () => {
-        this.page = 0;
-        this.loadLoans();   //keeps same filter
-      },
+      next: (loan) => this.patchStatus(loan.id, loan.status),
       error: (err) => console.error(err)
     });
   }
 
   rejectLoan(id: string, reason: string) {
     this.loanService.rejectLoan(id, reason).subscribe({
-      next: () => {
-        this.page = 0;
-        this.loadLoans();   //keeps same filter
-      },
+      next: (loan) => this.patchStatus(loan.id, loan.status),
       error: (err) => console.error(err)
     });
   }
@@ -150,8 +183,10 @@ export class LoanListComponent implements OnInit {
   deleteLoan(id: string) {
   this.loanService.deleteLoan(id).subscribe({
     next: () => {
-      this.page = 0;
-      this.loadLoans();
+      // Admins keep seeing deleted rows, flagged; users lose them
+      this.loans = this.isAdmin
+        ? this.loans.map(loan => loan.id === id ? { ...loan, deleted: true } : loan)
+        : this.loans.filter(loan => loan.id !== id);
       alert('Loan deleted successfully!');
     },
     error: (err: any) => {
@@ -1,5 +1,8 @@
 export interface LoanAction {
+  id: string;
+  loanId: string;
   action: string;
-  performedBy: string;
-  performedAt: string;
+  by: string;
+  comments?: string;
+  timestamp: string;
 }
@@ -0,0 +1,14 @@
+import { LoanStatus } from './loan-status.model';
+
+// Status change pushed over /api/loans/events; previousStatus is null for a new loan.
+// A soft delete keeps the status and sets deleted; an edit repeats the current status.
+export interface LoanEvent {
+  eventId: string;
+  loanId: string;
+  createdBy: string;
+  previousStatus: LoanStatus | null;
+  status: LoanStatus;
+  actionBy: string;
+  occurredAt: string;
+  deleted: boolean;
+}
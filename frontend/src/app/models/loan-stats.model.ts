@@ -0,0 +1,15 @@
+import { LoanStatus } from './loan-status.model';
+import { LoanType } from './loan-type.model';
+
+export interface LoanTotals {
+  count: number;
+  requestedAmount: number;
+  sanctionedAmount: number;
+}
+
+export interface LoanStats {
+  total: LoanTotals;
+  byStatus: Record<LoanStatus, LoanTotals>;
+  byType: Record<LoanType, LoanTotals>;
+  byUser: Record<string, LoanTotals>;
+}
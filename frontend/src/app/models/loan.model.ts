@@ -38,8 +38,12 @@ export interface Loan {
   updatedAt?: string;
   approvedAt?: string;
   rejectionReason?: string;
-  actions?: any[];
   deleted?: boolean;
   deletedBy?: string;
   deletedAt?: string;
 }
+
+// Row returned by the list endpoints; open the loan by id for the full document
+export type LoanSummary = Pick<Loan,
+  'id' | 'clientName' | 'loanType' | 'requestedAmount' | 'tenureMonths' |
+  'status' | 'createdBy' | 'createdAt' | 'deleted'>;